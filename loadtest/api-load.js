@@ -0,0 +1,65 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.LOADTEST_EMAIL || 'loadtest@financetrackhub.com';
+const PASSWORD = __ENV.LOADTEST_PASSWORD || 'loadtest123';
+
+export const options = {
+    scenarios: {
+        transactions: {
+            executor: 'constant-arrival-rate',
+            exec: 'listTransactions',
+            rate: Number(__ENV.RATE || 300),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        dashboard: {
+            executor: 'constant-arrival-rate',
+            exec: 'dashboard',
+            rate: Number(__ENV.RATE || 300),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const headers = { 'Content-Type': 'application/json' };
+    http.post(`${BASE_URL}/api/auth/register`,
+        JSON.stringify({ name: 'Load Test', email: EMAIL, password: PASSWORD }), { headers });
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }), { headers });
+    const token = login.json('token');
+    const auth = { headers: { ...headers, Authorization: `Bearer ${token}` } };
+
+    const category = http.post(`${BASE_URL}/api/categories`,
+        JSON.stringify({ name: `Carga ${Date.now()}` }), auth).json('id');
+
+    const today = new Date();
+    const rows = [];
+    for (let i = 0; i < 5000; i++) {
+        const date = new Date(today.getTime() - (i % 365) * 86400000).toISOString().slice(0, 10);
+        rows.push({ type: i % 4 === 0 ? 'INCOME' : 'EXPENSE', value: (i % 500) + 1, description: `carga ${i}`, date, categoryId: category });
+    }
+    http.post(`${BASE_URL}/api/transactions/import`, JSON.stringify(rows), auth);
+
+    return { token };
+}
+
+export function listTransactions(data) {
+    const res = http.get(`${BASE_URL}/api/transactions?page=0&size=30`,
+        { headers: { Authorization: `Bearer ${data.token}` }, tags: { endpoint: 'transactions' } });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
+
+export function dashboard(data) {
+    const res = http.get(`${BASE_URL}/api/dashboard`,
+        { headers: { Authorization: `Bearer ${data.token}` }, tags: { endpoint: 'dashboard' } });
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
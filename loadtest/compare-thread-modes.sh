@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Sobe a API duas vezes (threads de plataforma e threads virtuais) contra o mesmo banco
+# e executa o mesmo cenário k6 em cada modo, gravando os resumos em loadtest/results.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/finance-track-hub-api-*.jar | head -n 1)
+RESULTS=loadtest/results
+mkdir -p "$RESULTS"
+
+for mode in platform virtual; do
+    enabled=false
+    [ "$mode" = "virtual" ] && enabled=true
+
+    VIRTUAL_THREADS_ENABLED=$enabled java -jar "$JAR" > "$RESULTS/app-$mode.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+    until curl -s -o /dev/null "http://localhost:${SERVER_PORT:-8080}/api/auth/login"; do sleep 1; done
+
+    k6 run --summary-export "$RESULTS/summary-$mode.json" \
+        -e LOADTEST_EMAIL="loadtest-$mode-$(date +%s)@financetrackhub.com" \
+        loadtest/api-load.js | tee "$RESULTS/k6-$mode.txt"
+
+    kill $app_pid
+    wait $app_pid 2>/dev/null || true
+done
+
+echo "Resumos em $RESULTS/summary-platform.json e $RESULTS/summary-virtual.json"
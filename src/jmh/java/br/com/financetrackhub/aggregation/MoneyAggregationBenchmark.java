@@ -0,0 +1,89 @@
+package br.com.financetrackhub.aggregation;
+
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.service.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+    
+    private static final int CATEGORIES = 12;
+    
+    @Param({"100000"})
+    private int size;
+    
+    private List<Transaction> transactions;
+    
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user("money@benchmark.com");
+        transactions = BenchmarkFixtures.transactions(user, BenchmarkFixtures.categories(user, CATEGORIES), size);
+    }
+    
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expenses = BigDecimal.ZERO;
+        BigDecimal[] byCategory = new BigDecimal[CATEGORIES];
+        BigDecimal[] byDay = new BigDecimal[31];
+        Arrays.fill(byCategory, BigDecimal.ZERO);
+        Arrays.fill(byDay, BigDecimal.ZERO);
+        
+        for (Transaction transaction : transactions) {
+            BigDecimal value = transaction.getValue();
+            int day = transaction.getDate().getDayOfMonth() - 1;
+            if (transaction.getType() == Transaction.TransactionType.INCOME) {
+                income = income.add(value);
+                byDay[day] = byDay[day].add(value);
+            } else {
+                expenses = expenses.add(value);
+                byDay[day] = byDay[day].subtract(value);
+                int category = transaction.getCategory().getId().intValue() - 1;
+                byCategory[category] = byCategory[category].add(value);
+            }
+        }
+        
+        blackhole.consume(income);
+        blackhole.consume(expenses);
+        blackhole.consume(byCategory);
+        blackhole.consume(byDay);
+    }
+    
+    @Benchmark
+    public void cents(Blackhole blackhole) {
+        long income = 0;
+        long expenses = 0;
+        CentsBuckets byCategory = new CentsBuckets(CATEGORIES);
+        CentsBuckets byDay = new CentsBuckets(31);
+        
+        for (Transaction transaction : transactions) {
+            long value = Money.toCents(transaction.getValue());
+            int day = transaction.getDate().getDayOfMonth() - 1;
+            if (transaction.getType() == Transaction.TransactionType.INCOME) {
+                income = Money.add(income, value);
+                byDay.add(day, value);
+            } else {
+                expenses = Money.add(expenses, value);
+                byDay.add(day, -value);
+                byCategory.add(transaction.getCategory().getId().intValue() - 1, value);
+            }
+        }
+        
+        blackhole.consume(Money.toBigDecimal(income));
+        blackhole.consume(Money.toBigDecimal(expenses));
+        blackhole.consume(byCategory);
+        blackhole.consume(byDay);
+    }
+}
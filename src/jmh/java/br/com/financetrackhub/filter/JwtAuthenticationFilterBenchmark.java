@@ -0,0 +1,59 @@
+package br.com.financetrackhub.filter;
+
+import br.com.financetrackhub.config.CacheProperties;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.UserRepository;
+import br.com.financetrackhub.service.BenchmarkFixtures;
+import br.com.financetrackhub.service.JwtService;
+import br.com.financetrackhub.service.UserPrincipalCache;
+import br.com.financetrackhub.service.UserService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    
+    private static final String EMAIL = "filter@benchmark.com";
+    
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+    
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user(EMAIL);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        
+        JwtService jwtService = BenchmarkFixtures.jwtService();
+        UserService userService = new UserService(userRepository, new UserPrincipalCache(new CacheProperties()));
+        
+        filter = new JwtAuthenticationFilter(jwtService, userService);
+        authorizationHeader = "Bearer " + jwtService.generateToken(user);
+    }
+    
+    @Benchmark
+    public Object authenticateRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.CacheProperties;
+import br.com.financetrackhub.config.JwtProperties;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class BenchmarkFixtures {
+    
+    public static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-of-entropy";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    public static JwtService jwtService() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(86_400_000L);
+        
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtProperties", jwtProperties);
+        ReflectionTestUtils.setField(jwtService, "cacheProperties", new CacheProperties());
+        ReflectionTestUtils.setField(jwtService, "meterRegistry", new SimpleMeterRegistry());
+        jwtService.init();
+        return jwtService;
+    }
+    
+    public static User user(String email) {
+        User user = new User();
+        user.setId(1L);
+        user.setName("Benchmark User");
+        user.setEmail(email);
+        user.setPassword("{noop}secret");
+        return user;
+    }
+    
+    public static List<Category> categories(User user, int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Category category = new Category();
+            category.setId((long) i + 1);
+            category.setName("Categoria " + (i + 1));
+            category.setUser(user);
+            categories.add(category);
+        }
+        return categories;
+    }
+    
+    public static List<Transaction> transactions(User user, List<Category> categories, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> transactions = new ArrayList<>(count);
+        
+        for (int i = 0; i < count; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setId((long) i + 1);
+            transaction.setType(random.nextInt(4) == 0
+                    ? Transaction.TransactionType.INCOME
+                    : Transaction.TransactionType.EXPENSE);
+            transaction.setValue(BigDecimal.valueOf(random.nextLong(1, 500_000), 2));
+            transaction.setDescription("Transação sintética " + i);
+            transaction.setDate(today.minusDays(random.nextInt(3 * 365)));
+            transaction.setCategory(categories.get(random.nextInt(categories.size())));
+            transaction.setUser(user);
+            transaction.setCreatedAt(now);
+            transaction.setUpdatedAt(now);
+            transactions.add(transaction);
+        }
+        
+        return transactions;
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.DashboardResponse;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DashboardAggregationBenchmark {
+    
+    @Param({"100000", "1000000"})
+    private int size;
+    
+    private final DashboardAggregator dashboardAggregator = new DashboardAggregator();
+    private List<Transaction> transactions;
+    private LocalDate today;
+    private LocalDate firstDayOfMonth;
+    private LocalDate lastDayOfMonth;
+    
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user("aggregation@benchmark.com");
+        transactions = BenchmarkFixtures.transactions(user, BenchmarkFixtures.categories(user, 12), size);
+        today = LocalDate.now();
+        firstDayOfMonth = today.withDayOfMonth(1);
+        lastDayOfMonth = today.withDayOfMonth(today.lengthOfMonth());
+    }
+    
+    @Benchmark
+    public DashboardResponse singlePass() {
+        return dashboardAggregator.singlePass(start(), transactions).toResponseUntilLastActivity(today);
+    }
+    
+    @Benchmark
+    public DashboardResponse forkJoin() {
+        return dashboardAggregator.forkJoin(start(), transactions).toResponseUntilLastActivity(today);
+    }
+    
+    @Benchmark
+    public DashboardResponse streams() {
+        BigDecimal income = transactions.stream()
+                .filter(t -> t.getType() == Transaction.TransactionType.INCOME)
+                .map(Transaction::getValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        BigDecimal expenses = transactions.stream()
+                .filter(t -> t.getType() == Transaction.TransactionType.EXPENSE)
+                .map(Transaction::getValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        DashboardResponse.Summary summary = new DashboardResponse.Summary(income, expenses, income.subtract(expenses));
+        
+        Map<String, BigDecimal> expensesByCategory = transactions.stream()
+                .filter(t -> t.getType() == Transaction.TransactionType.EXPENSE)
+                .collect(Collectors.groupingBy(
+                        t -> t.getCategory().getName(),
+                        Collectors.reducing(BigDecimal.ZERO, Transaction::getValue, BigDecimal::add)
+                ));
+        
+        List<DashboardResponse.CategoryData> categoryData = expensesByCategory.entrySet().stream()
+                .map(entry -> new DashboardResponse.CategoryData(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        
+        BigDecimal initialBalance = transactions.stream()
+                .filter(t -> t.getDate().isBefore(firstDayOfMonth))
+                .map(t -> t.getType() == Transaction.TransactionType.INCOME ? t.getValue() : t.getValue().negate())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        List<Transaction> currentMonthTransactions = transactions.stream()
+                .filter(t -> !t.getDate().isBefore(firstDayOfMonth) && !t.getDate().isAfter(lastDayOfMonth))
+                .collect(Collectors.toList());
+        
+        if (currentMonthTransactions.isEmpty()) {
+            return new DashboardResponse(summary, categoryData, new ArrayList<>());
+        }
+        
+        LocalDate endDate = currentMonthTransactions.stream()
+                .map(Transaction::getDate)
+                .max(LocalDate::compareTo)
+                .orElse(firstDayOfMonth);
+        if (endDate.isAfter(today)) {
+            endDate = today;
+        }
+        
+        Map<LocalDate, BigDecimal> transactionsByDate = currentMonthTransactions.stream()
+                .collect(Collectors.groupingBy(
+                        Transaction::getDate,
+                        Collectors.reducing(
+                                BigDecimal.ZERO,
+                                t -> t.getType() == Transaction.TransactionType.INCOME ? t.getValue() : t.getValue().negate(),
+                                BigDecimal::add
+                        )
+                ));
+        
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM");
+        List<DashboardResponse.MonthlyData> monthlyData = new ArrayList<>();
+        BigDecimal runningBalance = initialBalance;
+        for (LocalDate date = firstDayOfMonth; !date.isAfter(endDate); date = date.plusDays(1)) {
+            runningBalance = runningBalance.add(transactionsByDate.getOrDefault(date, BigDecimal.ZERO));
+            monthlyData.add(new DashboardResponse.MonthlyData(date.format(formatter), runningBalance));
+        }
+        
+        return new DashboardResponse(summary, categoryData, monthlyData);
+    }
+    
+    private DashboardAggregation start() {
+        return dashboardAggregator.start(firstDayOfMonth, lastDayOfMonth, DashboardQuery.Granularity.DAY);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.StartUp;
+import br.com.financetrackhub.dto.CategoryRequest;
+import br.com.financetrackhub.dto.CategoryResponse;
+import br.com.financetrackhub.dto.DashboardResponse;
+import br.com.financetrackhub.dto.TransactionRequest;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+    
+    private static final String EMAIL = "dashboard@benchmark.com";
+    
+    @Param({"1000", "10000", "100000"})
+    private int size;
+    
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private Long userId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(StartUp.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:dashboard-benchmark;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "transactions.import.max-rows=" + size,
+                        "logging.level.root=WARN"
+                )
+                .run();
+        
+        UserService userService = context.getBean(UserService.class);
+        CategoryService categoryService = context.getBean(CategoryService.class);
+        TransactionImportService importService = context.getBean(TransactionImportService.class);
+        transactionService = context.getBean(TransactionService.class);
+        
+        User user = BenchmarkFixtures.user(EMAIL);
+        user.setId(null);
+        userId = userService.save(user).getId();
+        
+        List<Category> categories = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            CategoryResponse created = categoryService.create(new CategoryRequest("Categoria " + i), userId);
+            Category category = new Category();
+            category.setId(created.getId());
+            categories.add(category);
+        }
+        
+        List<TransactionRequest> requests = new ArrayList<>(size);
+        for (Transaction transaction : BenchmarkFixtures.transactions(user, categories, size)) {
+            requests.add(new TransactionRequest(
+                    transaction.getType().name(),
+                    transaction.getValue(),
+                    transaction.getDescription(),
+                    transaction.getDate(),
+                    transaction.getCategory().getId()
+            ));
+        }
+        importService.importTransactions(requests, userId);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public DashboardResponse getDashboardData() {
+        return transactionService.getDashboardData(userId);
+    }
+}
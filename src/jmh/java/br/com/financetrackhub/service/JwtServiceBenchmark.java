@@ -0,0 +1,40 @@
+package br.com.financetrackhub.service;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    
+    private JwtService jwtService;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService();
+        token = jwtService.generateToken("jwt@benchmark.com");
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("jwt@benchmark.com");
+    }
+    
+    @Benchmark
+    public Optional<Claims> verifyCached() {
+        return jwtService.verify(token);
+    }
+    
+    @Benchmark
+    public Claims verifyUncached() {
+        return jwtService.extractClaim(token, claims -> claims);
+    }
+}
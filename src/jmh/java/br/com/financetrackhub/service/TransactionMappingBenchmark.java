@@ -0,0 +1,40 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.TransactionResponse;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMappingBenchmark {
+    
+    @Param({"30", "1000"})
+    private int size;
+    
+    private TransactionService transactionService;
+    private List<Transaction> transactions;
+    
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user("mapping@benchmark.com");
+        transactions = BenchmarkFixtures.transactions(user, BenchmarkFixtures.categories(user, 12), size);
+        transactionService = new TransactionService(null, null, null, null, null, null, null, null);
+    }
+    
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (Transaction transaction : transactions) {
+            TransactionResponse response = transactionService.toResponse(transaction);
+            blackhole.consume(response);
+        }
+    }
+}
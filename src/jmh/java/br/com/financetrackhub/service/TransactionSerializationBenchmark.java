@@ -0,0 +1,93 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.CompactPageResponse;
+import br.com.financetrackhub.dto.PageResponse;
+import br.com.financetrackhub.dto.TransactionResponse;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionSerializationBenchmark {
+    
+    @Param({"30", "1000"})
+    private int size;
+    
+    private TransactionService transactionService;
+    private ObjectMapper objectMapper;
+    private Page<Transaction> page;
+    private List<TransactionField> compactFields;
+    private List<TransactionField> selectedFields;
+    
+    @Setup
+    public void setUp() throws IOException {
+        User user = BenchmarkFixtures.user("serialization@benchmark.com");
+        List<Transaction> transactions = BenchmarkFixtures.transactions(user, BenchmarkFixtures.categories(user, 12), size);
+        page = new PageImpl<>(transactions, PageRequest.of(0, size), size * 10L);
+        transactionService = new TransactionService(null, null, null, null, null, null, null, null);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        compactFields = TransactionField.COMPACT_DEFAULT;
+        selectedFields = TransactionField.parseList("id,value,date");
+        
+        System.out.printf("%n[size=%d] bytes (raw / gzip): full=%d / %d, compact=%d / %d, fields=id,value,date=%d / %d%n",
+                size,
+                full().length, gzip(full()).length,
+                compact().length, gzip(compact()).length,
+                selected().length, gzip(selected()).length);
+    }
+    
+    @Benchmark
+    public byte[] full() throws IOException {
+        List<TransactionResponse> content = page.getContent().stream()
+                .map(transactionService::toResponse)
+                .toList();
+        return objectMapper.writeValueAsBytes(new PageResponse<>(content, page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast()));
+    }
+    
+    @Benchmark
+    public byte[] compact() throws IOException {
+        CompactPageResponse response = transactionService.toCompactResponse(page, compactFields);
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] selected() throws IOException {
+        CompactPageResponse response = transactionService.toCompactResponse(page, selectedFields);
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] fullGzip() throws IOException {
+        return gzip(full());
+    }
+    
+    @Benchmark
+    public byte[] compactGzip() throws IOException {
+        return gzip(compact());
+    }
+    
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        }
+        return output.toByteArray();
+    }
+}
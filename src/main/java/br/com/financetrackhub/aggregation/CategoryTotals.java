@@ -0,0 +1,48 @@
+package br.com.financetrackhub.aggregation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CategoryTotals {
+    
+    private final Map<Long, Integer> indexes = new HashMap<>();
+    private String[] names;
+    private long[] totals;
+    private int size;
+    
+    public CategoryTotals() {
+        this(16);
+    }
+    
+    public CategoryTotals(int expectedCategories) {
+        names = new String[Math.max(expectedCategories, 1)];
+        totals = new long[names.length];
+    }
+    
+    public void add(Long categoryId, String name, long cents) {
+        Integer index = indexes.get(categoryId);
+        if (index == null) {
+            if (size == totals.length) {
+                names = Arrays.copyOf(names, size * 2);
+                totals = Arrays.copyOf(totals, size * 2);
+            }
+            index = size++;
+            indexes.put(categoryId, index);
+            names[index] = name;
+        }
+        totals[index] = Money.add(totals[index], cents);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String name(int index) {
+        return names[index];
+    }
+    
+    public long total(int index) {
+        return totals[index];
+    }
+}
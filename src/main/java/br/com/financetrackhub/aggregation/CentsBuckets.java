@@ -0,0 +1,32 @@
+package br.com.financetrackhub.aggregation;
+
+public final class CentsBuckets {
+    
+    private final long[] totals;
+    
+    public CentsBuckets(int size) {
+        this.totals = new long[size];
+    }
+    
+    public int size() {
+        return totals.length;
+    }
+    
+    public void add(int index, long cents) {
+        totals[index] = Money.add(totals[index], cents);
+    }
+    
+    public long get(int index) {
+        return totals[index];
+    }
+    
+    public long[] runningTotals(long openingCents) {
+        long[] running = new long[totals.length];
+        long balance = openingCents;
+        for (int i = 0; i < totals.length; i++) {
+            balance = Money.add(balance, totals[i]);
+            running[i] = balance;
+        }
+        return running;
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.financetrackhub.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+    
+    public static final int SCALE = 2;
+    
+    private Money() {
+    }
+    
+    public static long toCents(BigDecimal value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return value.setScale(SCALE, RoundingMode.UNNECESSARY).scaleByPowerOfTen(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Valor não representável em centavos: " + value.toPlainString());
+        }
+    }
+    
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+    
+    public static long add(long cents, long delta) {
+        return Math.addExact(cents, delta);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+@Data
+public class AuditProperties {
+    private int queueCapacity = 10000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Path spoolDirectory;
+}
@@ -0,0 +1,30 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "auth")
+@Data
+public class AuthProperties {
+    private PasswordHashing passwordHashing = new PasswordHashing();
+    private LoginThrottle loginThrottle = new LoginThrottle();
+    
+    @Data
+    public static class PasswordHashing {
+        private int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueCapacity = 32;
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+    
+    @Data
+    public static class LoginThrottle {
+        private int maxAttemptsPerEmail = 5;
+        private int maxAttemptsPerIp = 50;
+        private Duration window = Duration.ofMinutes(15);
+        private long maximumSize = 100_000;
+    }
+}
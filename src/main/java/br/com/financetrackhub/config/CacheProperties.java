@@ -0,0 +1,28 @@
+package br.com.financetrackhub.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+@Data
+public class CacheProperties {
+    private Spec principal = new Spec(10_000, Duration.ofMinutes(5));
+    private Spec token = new Spec(50_000, Duration.ofHours(1));
+    private Spec category = new Spec(10_000, Duration.ofMinutes(30));
+    private Spec dashboard = new Spec(10_000, Duration.ofMinutes(10));
+    private String dashboardStore = "local";
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private long maximumSize;
+        private Duration ttl;
+    }
+}
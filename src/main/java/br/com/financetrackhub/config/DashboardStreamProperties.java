@@ -0,0 +1,19 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.stream")
+@Data
+public class DashboardStreamProperties {
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+    private Duration syncInterval = Duration.ofSeconds(5);
+    private int bufferSize = 16;
+    private int maxConnections = 10000;
+    private int maxConnectionsPerUser = 5;
+}
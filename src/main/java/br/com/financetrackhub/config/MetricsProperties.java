@@ -0,0 +1,12 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "metrics")
+@Data
+public class MetricsProperties {
+    private int sqlStatementsWarnThreshold = 20;
+}
@@ -0,0 +1,81 @@
+package br.com.financetrackhub.config;
+
+import br.com.financetrackhub.service.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+    
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+    
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                        RecentWriteTracker recentWriteTracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.recentWriteTracker = recentWriteTracker;
+        this.primaryCounter = routeCounter(meterRegistry, Route.PRIMARY);
+        this.replicaCounter = routeCounter(meterRegistry, Route.REPLICA);
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("Leituras enviadas ao banco principal por falha ao conectar na réplica")
+                .register(meterRegistry);
+        
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return lagMonitor.isAvailable() && !currentUserWroteRecently() ? Route.REPLICA : Route.PRIMARY;
+    }
+    
+    // Depois de gravar, o usuário lê do banco principal até que a escrita certamente tenha chegado à réplica
+    private boolean currentUserWroteRecently() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && recentWriteTracker.wroteRecently(user.getId());
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+                fallbackCounter.increment();
+            }
+        }
+        primaryCounter.increment();
+        return primary.getConnection();
+    }
+    
+    private static Counter routeCounter(MeterRegistry meterRegistry, Route route) {
+        return Counter.builder("datasource.routing")
+                .description("Conexões somente leitura por destino (réplica ou banco principal)")
+                .tag("target", route.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.financetrackhub.config;
+
+import br.com.financetrackhub.service.UserDataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+public class RecentWriteTracker {
+    
+    private final Cache<Long, Boolean> recentWriters;
+    
+    public RecentWriteTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        recentWriters.put(event.userId(), Boolean.TRUE);
+    }
+    
+    public boolean wroteRecently(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "transactions.recurring")
+@Data
+public class RecurringTransactionProperties {
+    private boolean enabled = true;
+    private Duration interval = Duration.ofMinutes(1);
+    private int chunkSize = 200;
+    private int maxOccurrencesPerRun = 31;
+    private Duration claimTimeout = Duration.ofMinutes(5);
+}
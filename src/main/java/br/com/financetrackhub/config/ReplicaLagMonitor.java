@@ -0,0 +1,95 @@
+package br.com.financetrackhub.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    
+    private static final int HEARTBEAT_ID = 1;
+    
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+    private volatile long checkedAtNanos;
+    
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        
+        // Uma verificação mais lenta que o atraso máximo já não serve para liberar leituras na réplica
+        int queryTimeoutSeconds = (int) Math.max(1, maxLag.toSeconds());
+        this.primary.setQueryTimeout(queryTimeoutSeconds);
+        this.replica.setQueryTimeout(queryTimeoutSeconds);
+        
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Atraso da réplica medido pelo heartbeat (-1 quando indisponível)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .description("Indica se as leituras estão sendo enviadas para a réplica")
+                .register(meterRegistry);
+    }
+    
+    public boolean isAvailable() {
+        if (!available) {
+            return false;
+        }
+        // O atraso medido só vale no instante da verificação; se a próxima não chega, ele cresce com o tempo
+        long sinceCheck = Duration.ofNanos(System.nanoTime() - checkedAtNanos).toMillis();
+        return lagMillis + sinceCheck <= maxLag.toMillis();
+    }
+    
+    public void markUnavailable(Exception cause) {
+        if (available) {
+            log.warn("Réplica indisponível; leituras voltam para o banco principal até a próxima verificação", cause);
+        }
+        available = false;
+        lagMillis = -1;
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1s}")
+    public void check() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Timestamp beat = Timestamp.valueOf(now);
+            if (primary.update("UPDATE replica_heartbeats SET beat_at = ? WHERE id = ?", beat, HEARTBEAT_ID) == 0) {
+                primary.update("INSERT INTO replica_heartbeats (id, beat_at) VALUES (?, ?)", HEARTBEAT_ID, beat);
+            }
+        } catch (DataAccessException e) {
+            log.debug("Não foi possível registrar o heartbeat no banco principal", e);
+        }
+        
+        Timestamp replicated;
+        try {
+            replicated = replica.queryForObject(
+                    "SELECT beat_at FROM replica_heartbeats WHERE id = ?", Timestamp.class, HEARTBEAT_ID);
+        } catch (DataAccessException e) {
+            markUnavailable(e);
+            return;
+        }
+        
+        long lag = Math.max(0, Duration.between(replicated.toLocalDateTime(), now).toMillis());
+        boolean withinLimit = lag <= maxLag.toMillis();
+        if (withinLimit != available) {
+            log.info("Réplica {} (atraso de {} ms, limite {} ms)",
+                    withinLimit ? "disponível para leituras" : "atrasada; leituras no banco principal", lag, maxLag.toMillis());
+        }
+        lagMillis = lag;
+        checkedAtNanos = System.nanoTime();
+        available = withinLimit;
+    }
+}
@@ -1,8 +1,13 @@
 package br.com.financetrackhub.config;
 
 import br.com.financetrackhub.filter.JwtAuthenticationFilter;
+import br.com.financetrackhub.service.PasswordHashingExecutor;
 import br.com.financetrackhub.service.UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +23,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,15 +39,21 @@ public class SecurityConfig {
     
     private final UserService userService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   ServerProperties serverProperties,
+                                                   ManagementServerProperties managementServerProperties) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(prometheusOnManagementPort(serverProperties, managementServerProperties)).permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -54,6 +66,17 @@ public class SecurityConfig {
         return http.build();
     }
     
+    // O scrape do Prometheus só dispensa autenticação na porta interna do actuator
+    private static RequestMatcher prometheusOnManagementPort(ServerProperties serverProperties,
+                                                             ManagementServerProperties managementServerProperties) {
+        Integer managementPort = managementServerProperties.getPort();
+        if (managementPort == null || managementPort <= 0 || managementPort.equals(serverProperties.getPort())) {
+            return request -> false;
+        }
+        RequestMatcher prometheus = EndpointRequest.to("prometheus");
+        return request -> request.getLocalPort() == managementPort && prometheus.matches(request);
+    }
+    
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -69,7 +92,7 @@ public class SecurityConfig {
     
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
     
     @Bean
@@ -79,7 +102,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
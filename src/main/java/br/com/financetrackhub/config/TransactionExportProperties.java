@@ -0,0 +1,17 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "transactions.export")
+@Data
+public class TransactionExportProperties {
+    private int fetchSize = 500;
+    private int threads = 4;
+    private int queueCapacity = 8;
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,13 @@
+package br.com.financetrackhub.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "transactions.import")
+@Data
+public class TransactionImportProperties {
+    private int maxRows = 10_000;
+    private int batchSize = 500;
+}
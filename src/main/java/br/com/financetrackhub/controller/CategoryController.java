@@ -3,14 +3,18 @@ package br.com.financetrackhub.controller;
 import br.com.financetrackhub.dto.CategoryRequest;
 import br.com.financetrackhub.dto.CategoryResponse;
 import br.com.financetrackhub.dto.PageResponse;
+import br.com.financetrackhub.service.AuthenticatedUser;
 import br.com.financetrackhub.service.CategoryService;
+import br.com.financetrackhub.service.UserDataVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,27 +25,36 @@ import java.util.List;
 public class CategoryController {
     
     private final CategoryService categoryService;
+    private final UserDataVersionService userDataVersionService;
     
     @GetMapping
     public ResponseEntity<PageResponse<CategoryResponse>> getAllCategories(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "30") int size) {
-        String userEmail = getCurrentUserEmail();
-        PageResponse<CategoryResponse> categories = categoryService.findAllByUserPaginated(userEmail, page, size);
-        return ResponseEntity.ok(categories);
+            @RequestParam(defaultValue = "30") int size,
+            WebRequest webRequest) {
+        Long userId = getCurrentUserId();
+        String etag = userDataVersionService.etag(userId, page, size);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        PageResponse<CategoryResponse> categories = categoryService.findAllByUserPaginated(userId, page, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(categories);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
-        String userEmail = getCurrentUserEmail();
-        CategoryResponse category = categoryService.findById(id, userEmail);
+        Long userId = getCurrentUserId();
+        CategoryResponse category = categoryService.findById(id, userId);
         return ResponseEntity.ok(category);
     }
     
     @PostMapping
     public ResponseEntity<CategoryResponse> createCategory(@Valid @RequestBody CategoryRequest request) {
-        String userEmail = getCurrentUserEmail();
-        CategoryResponse category = categoryService.create(request, userEmail);
+        Long userId = getCurrentUserId();
+        CategoryResponse category = categoryService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(category);
     }
     
@@ -49,21 +62,21 @@ public class CategoryController {
     public ResponseEntity<CategoryResponse> updateCategory(
             @PathVariable Long id,
             @Valid @RequestBody CategoryRequest request) {
-        String userEmail = getCurrentUserEmail();
-        CategoryResponse category = categoryService.update(id, request, userEmail);
+        Long userId = getCurrentUserId();
+        CategoryResponse category = categoryService.update(id, request, userId);
         return ResponseEntity.ok(category);
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
-        String userEmail = getCurrentUserEmail();
-        categoryService.delete(id, userEmail);
+        Long userId = getCurrentUserId();
+        categoryService.delete(id, userId);
         return ResponseEntity.noContent().build();
     }
     
-    private String getCurrentUserEmail() {
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        return ((AuthenticatedUser) authentication.getPrincipal()).getId();
     }
 }
 
@@ -1,12 +1,22 @@
 package br.com.financetrackhub.controller;
 
 import br.com.financetrackhub.dto.DashboardResponse;
-import br.com.financetrackhub.service.TransactionService;
+import br.com.financetrackhub.service.AuthenticatedUser;
+import br.com.financetrackhub.service.DashboardQuery;
+import br.com.financetrackhub.service.DashboardSnapshotService;
+import br.com.financetrackhub.service.DashboardStreamService;
+import br.com.financetrackhub.service.UserDataVersionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -14,18 +24,40 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class DashboardController {
     
-    private final TransactionService transactionService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final UserDataVersionService userDataVersionService;
+    private final DashboardStreamService dashboardStreamService;
     
     @GetMapping
-    public ResponseEntity<DashboardResponse> getDashboard() {
-        String userEmail = getCurrentUserEmail();
-        DashboardResponse dashboard = transactionService.getDashboardData(userEmail);
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String granularity,
+            WebRequest webRequest) {
+        Long userId = getCurrentUserId();
+        DashboardQuery query = DashboardQuery.of(startDate, endDate, granularity);
+        long version = userDataVersionService.currentVersion(userId);
+        if (webRequest.checkNotModified(UserDataVersionService.etagFor(version, LocalDate.now(), query.toString()))) {
+            return null;
+        }
+        
+        DashboardResponse dashboard = dashboardSnapshotService.getDashboard(userId, version, query);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(dashboard);
+    }
+    
+    @GetMapping("/stream")
+    public SseEmitter streamDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String granularity) {
+        return dashboardStreamService.subscribe(getCurrentUserId(), DashboardQuery.of(startDate, endDate, granularity));
     }
     
-    private String getCurrentUserEmail() {
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        return ((AuthenticatedUser) authentication.getPrincipal()).getId();
     }
 }
 
@@ -0,0 +1,50 @@
+package br.com.financetrackhub.controller;
+
+import br.com.financetrackhub.dto.RecurringTransactionRequest;
+import br.com.financetrackhub.dto.RecurringTransactionResponse;
+import br.com.financetrackhub.service.AuthenticatedUser;
+import br.com.financetrackhub.service.RecurringTransactionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recurring-transactions")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RecurringTransactionController {
+    
+    private final RecurringTransactionService recurringTransactionService;
+    
+    @GetMapping
+    public ResponseEntity<List<RecurringTransactionResponse>> getAllRecurringTransactions() {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(recurringTransactionService.findAllByUser(userId));
+    }
+    
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> createRecurringTransaction(
+            @Valid @RequestBody RecurringTransactionRequest request) {
+        Long userId = getCurrentUserId();
+        RecurringTransactionResponse recurring = recurringTransactionService.create(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(recurring);
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecurringTransaction(@PathVariable Long id) {
+        Long userId = getCurrentUserId();
+        recurringTransactionService.delete(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return ((AuthenticatedUser) authentication.getPrincipal()).getId();
+    }
+}
@@ -1,19 +1,37 @@
 package br.com.financetrackhub.controller;
 
+import br.com.financetrackhub.dto.CompactPageResponse;
+import br.com.financetrackhub.dto.CursorPageResponse;
+import br.com.financetrackhub.dto.ImportResponse;
 import br.com.financetrackhub.dto.PageResponse;
 import br.com.financetrackhub.dto.TransactionRequest;
 import br.com.financetrackhub.dto.TransactionResponse;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.service.AuthenticatedUser;
+import br.com.financetrackhub.service.TransactionExportExecutor;
+import br.com.financetrackhub.service.TransactionExportService;
+import br.com.financetrackhub.service.TransactionImportService;
 import br.com.financetrackhub.service.TransactionService;
+import br.com.financetrackhub.service.UserDataVersionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -22,6 +40,10 @@ import java.time.LocalDate;
 public class TransactionController {
     
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionExportExecutor transactionExportExecutor;
+    private final UserDataVersionService userDataVersionService;
     
     @GetMapping
     public ResponseEntity<PageResponse<TransactionResponse>> getAllTransactions(
@@ -30,46 +52,138 @@ public class TransactionController {
             @RequestParam(required = false) String type,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        String userEmail = getCurrentUserEmail();
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String search,
+            WebRequest webRequest) {
+        Long userId = getCurrentUserId();
+        String etag = userDataVersionService.etag(userId, page, size, type, categoryId, startDate, endDate, search);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
         PageResponse<TransactionResponse> transactions = transactionService.findAllByUserPaginated(
-                userEmail, page, size, type, categoryId, startDate, endDate);
-        return ResponseEntity.ok(transactions);
+                userId, page, size, type, categoryId, startDate, endDate, search);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(transactions);
+    }
+    
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<CompactPageResponse> getAllTransactionsCompact(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        Long userId = getCurrentUserId();
+        String etag = userDataVersionService.etag(userId, "compact", page, size, type, categoryId, startDate, endDate, search, fields);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        CompactPageResponse transactions = transactionService.findAllByUserPaginatedCompact(
+                userId, page, size, type, categoryId, startDate, endDate, search, fields);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(transactions);
+    }
+    
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getTransactionsAfterCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "30") int size,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest webRequest) {
+        Long userId = getCurrentUserId();
+        String etag = userDataVersionService.etag(userId, after, size, type, categoryId, startDate, endDate);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        CursorPageResponse<TransactionResponse> transactions = transactionService.findAllByUserAfterCursor(
+                userId, after, size, type, categoryId, startDate, endDate);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(transactions);
+    }
+    
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletResponse response) {
+        Long userId = getCurrentUserId();
+        TransactionExportService.ExportFormat exportFormat = TransactionExportService.ExportFormat.parse(format);
+        Transaction.TransactionType transactionType = TransactionService.parseTypeFilter(type);
+        boolean csv = exportFormat == TransactionExportService.ExportFormat.CSV;
+        
+        Callable<Void> export = () -> {
+            response.setContentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8).toString() : MediaType.APPLICATION_NDJSON_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions." + (csv ? "csv" : "ndjson") + "\"");
+            transactionExportService.export(
+                    userId, exportFormat, transactionType, categoryId, startDate, endDate, response.getOutputStream());
+            return null;
+        };
+        return transactionExportExecutor.task(export);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable Long id) {
-        String userEmail = getCurrentUserEmail();
-        TransactionResponse transaction = transactionService.findById(id, userEmail);
+        Long userId = getCurrentUserId();
+        TransactionResponse transaction = transactionService.findById(id, userId);
         return ResponseEntity.ok(transaction);
     }
     
     @PostMapping
     public ResponseEntity<TransactionResponse> createTransaction(@Valid @RequestBody TransactionRequest request) {
-        String userEmail = getCurrentUserEmail();
-        TransactionResponse transaction = transactionService.create(request, userEmail);
+        Long userId = getCurrentUserId();
+        TransactionResponse transaction = transactionService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
     }
     
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResponse> importTransactions(@RequestBody List<TransactionRequest> requests) {
+        Long userId = getCurrentUserId();
+        ImportResponse response = transactionImportService.importTransactions(requests, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResponse> importTransactionsCsv(@RequestBody String csv) {
+        Long userId = getCurrentUserId();
+        ImportResponse response = transactionImportService.importCsv(csv, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponse> updateTransaction(
             @PathVariable Long id,
             @Valid @RequestBody TransactionRequest request) {
-        String userEmail = getCurrentUserEmail();
-        TransactionResponse transaction = transactionService.update(id, request, userEmail);
+        Long userId = getCurrentUserId();
+        TransactionResponse transaction = transactionService.update(id, request, userId);
         return ResponseEntity.ok(transaction);
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTransaction(@PathVariable Long id) {
-        String userEmail = getCurrentUserEmail();
-        transactionService.delete(id, userEmail);
+        Long userId = getCurrentUserId();
+        transactionService.delete(id, userId);
         return ResponseEntity.noContent().build();
     }
     
-    private String getCurrentUserEmail() {
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
+        return ((AuthenticatedUser) authentication.getPrincipal()).getId();
     }
 }
 
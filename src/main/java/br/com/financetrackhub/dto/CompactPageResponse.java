@@ -0,0 +1,25 @@
+package br.com.financetrackhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactPageResponse {
+    private List<String> fields;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Long, String> categories;
+    private List<List<Object>> rows;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+}
@@ -0,0 +1,26 @@
+package br.com.financetrackhub.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class DashboardDeltaResponse {
+    
+    private DashboardResponse.Summary summary;
+    private List<DashboardResponse.CategoryData> categoryData;
+    private List<String> removedCategories;
+    private List<DashboardResponse.MonthlyData> monthlyData;
+    
+    @JsonIgnore
+    public boolean isEmpty() {
+        return summary == null && categoryData.isEmpty() && removedCategories.isEmpty() && monthlyData.isEmpty();
+    }
+}
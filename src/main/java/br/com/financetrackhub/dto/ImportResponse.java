@@ -0,0 +1,12 @@
+package br.com.financetrackhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResponse {
+    private int imported;
+}
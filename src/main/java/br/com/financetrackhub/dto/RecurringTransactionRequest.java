@@ -0,0 +1,41 @@
+package br.com.financetrackhub.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTransactionRequest {
+    
+    @NotBlank(message = "O tipo da transação é obrigatório")
+    private String type;
+    
+    @NotNull(message = "O valor é obrigatório")
+    @DecimalMin(value = "0.01", message = "O valor deve ser maior que zero")
+    @Digits(integer = 8, fraction = 2, message = "O valor deve ter no máximo 8 dígitos inteiros e 2 casas decimais")
+    private BigDecimal value;
+    
+    @Size(max = 500, message = "A descrição deve ter no máximo 500 caracteres")
+    private String description;
+    
+    @NotNull(message = "A categoria é obrigatória")
+    private Long categoryId;
+    
+    @NotBlank(message = "A frequência é obrigatória")
+    private String frequency;
+    
+    @NotNull(message = "A data inicial é obrigatória")
+    private LocalDate startDate;
+    
+    private LocalDate endDate;
+}
@@ -0,0 +1,27 @@
+package br.com.financetrackhub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTransactionResponse {
+    private Long id;
+    private String type;
+    private BigDecimal value;
+    private String description;
+    private Long categoryId;
+    private String frequency;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate nextRunDate;
+    private Long occurrences;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
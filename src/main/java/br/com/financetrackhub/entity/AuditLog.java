@@ -0,0 +1,54 @@
+package br.com.financetrackhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_entity", columnList = "entity_type, entity_id, occurred_at"),
+        @Index(name = "idx_audit_logs_user_occurred", columnList = "user_id, occurred_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLog {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+    
+    @Column(name = "entity_id")
+    private Long entityId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Action action;
+    
+    @Column(name = "old_value", length = 4000)
+    private String oldValue;
+    
+    @Column(name = "new_value", length = 4000)
+    private String newValue;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+    
+    public enum EntityType {
+        TRANSACTION, CATEGORY
+    }
+    
+    public enum Action {
+        CREATE, UPDATE, DELETE, IMPORT
+    }
+}
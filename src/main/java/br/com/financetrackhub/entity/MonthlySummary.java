@@ -0,0 +1,48 @@
+package br.com.financetrackhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+        name = "monthly_summaries",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_summary",
+                columnNames = {"user_id", "category_id", "type", "reference_month"}
+        )
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Transaction.TransactionType type;
+
+    @Column(name = "reference_month", nullable = false)
+    private LocalDate referenceMonth;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
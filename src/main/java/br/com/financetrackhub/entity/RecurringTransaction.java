@@ -0,0 +1,104 @@
+package br.com.financetrackhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Entity
+@Table(
+        name = "recurring_transactions",
+        indexes = {
+                @Index(name = "idx_recurring_next_run", columnList = "next_run_date, id"),
+                @Index(name = "idx_recurring_claim_token", columnList = "claim_token"),
+                @Index(name = "idx_recurring_user", columnList = "user_id")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTransaction {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Transaction.TransactionType type;
+    
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal value;
+    
+    @Column(length = 500)
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Frequency frequency;
+    
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+    
+    @Column(name = "end_date")
+    private LocalDate endDate;
+    
+    @Column(name = "next_run_date")
+    private LocalDate nextRunDate;
+    
+    @Column(nullable = false)
+    private Long occurrences;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+    
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS),
+        YEARLY(ChronoUnit.YEARS);
+        
+        private final ChronoUnit unit;
+        
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+        
+        public LocalDate occurrence(LocalDate startDate, long index) {
+            return startDate.plus(index, unit);
+        }
+    }
+}
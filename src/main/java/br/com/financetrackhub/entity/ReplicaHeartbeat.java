@@ -0,0 +1,22 @@
+package br.com.financetrackhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "replica_heartbeats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaHeartbeat {
+    
+    @Id
+    private Integer id;
+    
+    @Column(name = "beat_at", nullable = false)
+    private LocalDateTime beatAt;
+}
@@ -10,7 +10,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        indexes = {
+                @Index(name = "idx_transactions_user_date", columnList = "user_id, date, id"),
+                @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, date, id"),
+                @Index(name = "idx_transactions_user_type_date", columnList = "user_id, type, date, id")
+        },
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_transactions_recurring_date",
+                columnNames = {"recurring_id", "date"}
+        )
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +52,9 @@ public class Transaction {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
+    @Column(name = "recurring_id")
+    private Long recurringId;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
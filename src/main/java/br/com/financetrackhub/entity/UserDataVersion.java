@@ -0,0 +1,21 @@
+package br.com.financetrackhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "user_data_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDataVersion {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(nullable = false)
+    private Long version;
+}
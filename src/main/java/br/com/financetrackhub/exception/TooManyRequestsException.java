@@ -0,0 +1,7 @@
+package br.com.financetrackhub.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.financetrackhub.filter;
 
+import br.com.financetrackhub.service.AuthenticatedUser;
 import br.com.financetrackhub.service.JwtService;
 import br.com.financetrackhub.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,12 +42,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        Claims claims = jwtService.verify(jwt).orElse(null);
+        
+        if (claims == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        userEmail = claims.getSubject();
         
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(userEmail);
+            Long userId = jwtService.extractUserId(claims);
+            UserDetails userDetails = userId != null
+                    ? AuthenticatedUser.fromToken(userId, userEmail)
+                    : userService.loadUserByUsername(userEmail);
             
-            if (jwtService.validateToken(jwt, userDetails)) {
+            if (jwtService.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
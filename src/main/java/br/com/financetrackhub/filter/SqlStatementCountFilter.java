@@ -0,0 +1,59 @@
+package br.com.financetrackhub.filter;
+
+import br.com.financetrackhub.config.MetricsProperties;
+import br.com.financetrackhub.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    
+    private final MeterRegistry meterRegistry;
+    private final MetricsProperties metricsProperties;
+    
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.current();
+            SqlStatementCounter.clear();
+            
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            
+            DistributionSummary.builder("http.server.sql.statements")
+                    .description("Comandos SQL executados por requisição")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            
+            if (statements > metricsProperties.getSqlStatementsWarnThreshold()) {
+                log.warn("{} {} executou {} comandos SQL (limite {})",
+                        request.getMethod(), uri, statements, metricsProperties.getSqlStatementsWarnThreshold());
+            }
+        }
+    }
+}
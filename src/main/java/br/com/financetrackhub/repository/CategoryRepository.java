@@ -1,7 +1,6 @@
 package br.com.financetrackhub.repository;
 
 import br.com.financetrackhub.entity.Category;
-import br.com.financetrackhub.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,9 +11,9 @@ import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    List<Category> findByUser(User user);
-    Page<Category> findByUserOrderByIdDesc(User user, Pageable pageable);
-    Optional<Category> findByIdAndUser(Long id, User user);
-    boolean existsByNameAndUser(String name, User user);
+    List<Category> findByUserId(Long userId);
+    Page<Category> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+    Optional<Category> findByIdAndUserId(Long id, Long userId);
+    boolean existsByNameAndUserId(String name, Long userId);
 }
 
@@ -0,0 +1,61 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.MonthlySummary;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.repository.projection.CategoryTotal;
+import br.com.financetrackhub.repository.projection.TypeTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, Long> {
+
+    @Query("SELECT s.type AS type, SUM(s.total) AS total " +
+           "FROM MonthlySummary s WHERE s.user.id = :userId " +
+           "GROUP BY s.type")
+    List<TypeTotal> sumByType(@Param("userId") Long userId);
+
+    @Query("SELECT c.id AS categoryId, c.name AS name, SUM(s.total) AS total " +
+           "FROM MonthlySummary s JOIN s.category c " +
+           "WHERE s.user.id = :userId AND s.type = :type " +
+           "GROUP BY c.id, c.name " +
+           "HAVING SUM(s.transactionCount) > 0")
+    List<CategoryTotal> sumByCategory(
+            @Param("userId") Long userId,
+            @Param("type") Transaction.TransactionType type
+    );
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN s.type = :incomeType THEN s.total ELSE -s.total END), 0) " +
+           "FROM MonthlySummary s WHERE s.user.id = :userId AND s.referenceMonth < :referenceMonth")
+    BigDecimal sumNetBefore(
+            @Param("userId") Long userId,
+            @Param("referenceMonth") LocalDate referenceMonth,
+            @Param("incomeType") Transaction.TransactionType incomeType
+    );
+
+    @Modifying
+    @Query("UPDATE MonthlySummary s " +
+           "SET s.total = s.total + :delta, s.transactionCount = s.transactionCount + :count " +
+           "WHERE s.user.id = :userId AND s.category.id = :categoryId " +
+           "AND s.type = :type AND s.referenceMonth = :referenceMonth")
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") Transaction.TransactionType type,
+            @Param("referenceMonth") LocalDate referenceMonth,
+            @Param("delta") BigDecimal delta,
+            @Param("count") long count
+    );
+
+    @Modifying
+    @Query("DELETE FROM MonthlySummary s WHERE s.category = :category")
+    void deleteByCategory(@Param("category") Category category);
+}
@@ -0,0 +1,66 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.RecurringTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+    
+    List<RecurringTransaction> findByUserIdOrderByIdDesc(Long userId);
+    
+    Optional<RecurringTransaction> findByIdAndUserId(Long id, Long userId);
+    
+    @Query("SELECT r.id FROM RecurringTransaction r " +
+           "WHERE r.nextRunDate <= :today " +
+           "AND (r.claimedUntil IS NULL OR r.claimedUntil < :now) " +
+           "ORDER BY r.nextRunDate, r.id")
+    List<Long> findDueIds(
+            @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+    
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.claimToken = :token, r.claimedUntil = :claimedUntil " +
+           "WHERE r.id IN :ids AND r.nextRunDate <= :today " +
+           "AND (r.claimedUntil IS NULL OR r.claimedUntil < :now)")
+    int claim(
+            @Param("ids") Collection<Long> ids,
+            @Param("token") String token,
+            @Param("claimedUntil") LocalDateTime claimedUntil,
+            @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now
+    );
+    
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.claimToken = :token ORDER BY r.id")
+    List<RecurringTransaction> findClaimed(@Param("token") String token);
+    
+    @Query("SELECT r.id FROM RecurringTransaction r WHERE r.claimToken = :token ORDER BY r.id")
+    List<Long> findClaimedIds(@Param("token") String token);
+    
+    @Query("SELECT r FROM RecurringTransaction r WHERE r.id = :id AND r.claimToken = :token")
+    Optional<RecurringTransaction> findClaimedById(@Param("id") Long id, @Param("token") String token);
+    
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.claimToken = NULL, r.claimedUntil = NULL WHERE r.claimToken = :token")
+    int release(@Param("token") String token);
+    
+    @Modifying
+    @Query("UPDATE RecurringTransaction r SET r.claimToken = NULL WHERE r.id = :id AND r.claimToken = :token")
+    int park(@Param("id") Long id, @Param("token") String token);
+    
+    @Modifying
+    @Query("DELETE FROM RecurringTransaction r WHERE r.category.id = :categoryId")
+    void deleteByCategoryId(@Param("categoryId") Long categoryId);
+}
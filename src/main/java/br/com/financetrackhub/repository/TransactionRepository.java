@@ -3,40 +3,83 @@ package br.com.financetrackhub.repository;
 import br.com.financetrackhub.entity.Category;
 import br.com.financetrackhub.entity.Transaction;
 import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.projection.CategoryTotal;
+import br.com.financetrackhub.repository.projection.DailyTotal;
+import br.com.financetrackhub.repository.projection.MonthlyTotal;
+import br.com.financetrackhub.repository.projection.TypeTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>,
+        JpaSpecificationExecutor<Transaction>, TransactionRepositoryCustom {
     Page<Transaction> findByUserOrderByIdDesc(User user, Pageable pageable);
     
     Page<Transaction> findByUserAndTypeOrderByIdDesc(User user, Transaction.TransactionType type, Pageable pageable);
     
-    @Query("SELECT t FROM Transaction t WHERE t.user = :user " +
-           "AND (:type IS NULL OR t.type = :type) " +
-           "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-           "AND (:startDate IS NULL OR t.date >= :startDate) " +
-           "AND (:endDate IS NULL OR t.date <= :endDate) " +
-           "ORDER BY t.id DESC")
-    Page<Transaction> findByUserWithFilters(
-            @Param("user") User user,
+    List<Transaction> findByUserOrderByDateAsc(User user);
+    
+    @Query("SELECT t.date AS date, " +
+           "SUM(CASE WHEN t.type = :incomeType THEN t.value ELSE -t.value END) AS total " +
+           "FROM Transaction t WHERE t.user.id = :userId " +
+           "AND t.date >= :startDate AND t.date <= :endDate " +
+           "GROUP BY t.date ORDER BY t.date")
+    List<DailyTotal> sumNetByDateBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("incomeType") Transaction.TransactionType incomeType
+    );
+    
+    @Query("SELECT t.type AS type, SUM(t.value) AS total " +
+           "FROM Transaction t WHERE t.user.id = :userId " +
+           "AND t.date >= :startDate AND t.date <= :endDate " +
+           "GROUP BY t.type")
+    List<TypeTotal> sumByTypeBetween(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT c.id AS categoryId, c.name AS name, SUM(t.value) AS total " +
+           "FROM Transaction t JOIN t.category c " +
+           "WHERE t.user.id = :userId AND t.type = :type " +
+           "AND t.date >= :startDate AND t.date <= :endDate " +
+           "GROUP BY c.id, c.name")
+    List<CategoryTotal> sumByCategoryBetween(
+            @Param("userId") Long userId,
             @Param("type") Transaction.TransactionType type,
-            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+    
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = :incomeType THEN t.value ELSE -t.value END), 0) " +
+           "FROM Transaction t WHERE t.user.id = :userId " +
+           "AND t.date >= :startDate AND t.date <= :endDate")
+    BigDecimal sumNetBetween(
+            @Param("userId") Long userId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
-            Pageable pageable
+            @Param("incomeType") Transaction.TransactionType incomeType
     );
     
-    List<Transaction> findByUserOrderByDateAsc(User user);
+    @Query("SELECT t.user.id AS userId, t.category.id AS categoryId, t.type AS type, " +
+           "YEAR(t.date) AS year, MONTH(t.date) AS month, " +
+           "SUM(t.value) AS total, COUNT(t) AS transactionCount " +
+           "FROM Transaction t " +
+           "GROUP BY t.user.id, t.category.id, t.type, YEAR(t.date), MONTH(t.date)")
+    List<MonthlyTotal> sumGroupedByUserCategoryTypeAndMonth();
     
-    Optional<Transaction> findByIdAndUser(Long id, User user);
+    Optional<Transaction> findByIdAndUserId(Long id, Long userId);
 }
 
@@ -0,0 +1,13 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.Transaction;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+    Slice<Transaction> findSlice(Specification<Transaction> specification, int size);
+    
+    Stream<Transaction> stream(Specification<Transaction> specification, int fetchSize);
+}
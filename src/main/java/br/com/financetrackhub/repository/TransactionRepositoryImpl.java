@@ -0,0 +1,57 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Slice<Transaction> findSlice(Specification<Transaction> specification, int size) {
+        List<Transaction> content = createQuery(specification)
+                .setMaxResults(size + 1)
+                .getResultList();
+        
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+    
+    @Override
+    public Stream<Transaction> stream(Specification<Transaction> specification, int fetchSize) {
+        return createQuery(specification)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+    
+    private TypedQuery<Transaction> createQuery(Specification<Transaction> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        root.fetch("category");
+        
+        query.select(root)
+                .where(specification.toPredicate(root, query, cb));
+        
+        return entityManager.createQuery(query);
+    }
+}
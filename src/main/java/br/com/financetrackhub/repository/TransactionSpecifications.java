@@ -0,0 +1,106 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.config.FullTextFunctionContributor;
+import br.com.financetrackhub.entity.Transaction;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TransactionSpecifications {
+    
+    private TransactionSpecifications() {
+    }
+    
+    public static Specification<Transaction> belongsTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+    
+    public static Specification<Transaction> hasType(Transaction.TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+    
+    public static Specification<Transaction> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+    
+    public static Specification<Transaction> dateFrom(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+    
+    public static Specification<Transaction> dateUntil(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+    
+    public static Specification<Transaction> before(LocalDate date, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("date"), date),
+                cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id)));
+    }
+    
+    // Mais recentes primeiro (date, id). As colunas filtradas por igualdade entram no início
+    // da ordenação para que ela coincida com o índice (user_id[, category_id | type], date, id)
+    // e o banco leia as linhas já ordenadas, sem etapa de sort.
+    public static Specification<Transaction> newestFirst(Transaction.TransactionType type, Long categoryId) {
+        return (root, query, cb) -> {
+            List<Order> orders = new ArrayList<>();
+            orders.add(cb.desc(root.get("user").get("id")));
+            if (categoryId != null) {
+                orders.add(cb.desc(root.get("category").get("id")));
+            } else if (type != null) {
+                orders.add(cb.desc(root.get("type")));
+            }
+            orders.add(cb.desc(root.get("date")));
+            orders.add(cb.desc(root.get("id")));
+            query.orderBy(orders);
+            return null;
+        };
+    }
+    
+    public static Specification<Transaction> matchesFullText(String booleanQuery) {
+        return (root, query, cb) -> {
+            Expression<Double> relevance = cb.function(
+                    FullTextFunctionContributor.MATCH_AGAINST, Double.class, root.get("description"), cb.literal(booleanQuery));
+            query.orderBy(cb.desc(relevance), cb.desc(root.get("id")));
+            return cb.greaterThan(relevance, 0.0);
+        };
+    }
+    
+    public static Specification<Transaction> descriptionContainsAll(List<String> terms) {
+        return (root, query, cb) -> {
+            Expression<String> description = cb.lower(root.get("description"));
+            query.orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+            return cb.and(terms.stream()
+                    .map(term -> cb.like(description, "%" + term.toLowerCase() + "%"))
+                    .toArray(Predicate[]::new));
+        };
+    }
+    
+    public static Specification<Transaction> withFilters(
+            Long userId,
+            Transaction.TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate) {
+        Specification<Transaction> specification = belongsTo(userId);
+        
+        if (type != null) {
+            specification = specification.and(hasType(type));
+        }
+        if (categoryId != null) {
+            specification = specification.and(inCategory(categoryId));
+        }
+        if (startDate != null) {
+            specification = specification.and(dateFrom(startDate));
+        }
+        if (endDate != null) {
+            specification = specification.and(dateUntil(endDate));
+        }
+        
+        return specification;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.UserDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDataVersionRepository extends JpaRepository<UserDataVersion, Long> {
+    
+    @Query("SELECT v.version FROM UserDataVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+    
+    List<UserDataVersion> findByUserIdIn(Collection<Long> userIds);
+    
+    @Modifying
+    @Query("UPDATE UserDataVersion v SET v.version = v.version + 1 WHERE v.userId = :userId")
+    int increment(@Param("userId") Long userId);
+}
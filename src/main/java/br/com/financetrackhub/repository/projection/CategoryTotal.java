@@ -0,0 +1,9 @@
+package br.com.financetrackhub.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface CategoryTotal {
+    Long getCategoryId();
+    String getName();
+    BigDecimal getTotal();
+}
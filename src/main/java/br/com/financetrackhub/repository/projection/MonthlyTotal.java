@@ -0,0 +1,15 @@
+package br.com.financetrackhub.repository.projection;
+
+import br.com.financetrackhub.entity.Transaction;
+
+import java.math.BigDecimal;
+
+public interface MonthlyTotal {
+    Long getUserId();
+    Long getCategoryId();
+    Transaction.TransactionType getType();
+    Integer getYear();
+    Integer getMonth();
+    BigDecimal getTotal();
+    Long getTransactionCount();
+}
@@ -0,0 +1,10 @@
+package br.com.financetrackhub.repository.projection;
+
+import br.com.financetrackhub.entity.Transaction;
+
+import java.math.BigDecimal;
+
+public interface TypeTotal {
+    Transaction.TransactionType getType();
+    BigDecimal getTotal();
+}
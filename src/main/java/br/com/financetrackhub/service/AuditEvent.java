@@ -0,0 +1,41 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.AuditLog;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record AuditEvent(
+        Long userId,
+        AuditLog.EntityType entityType,
+        Long entityId,
+        AuditLog.Action action,
+        Map<String, Object> oldValue,
+        Map<String, Object> newValue,
+        LocalDateTime occurredAt
+) {
+    
+    public static AuditEvent of(Long userId, AuditLog.EntityType entityType, Long entityId, AuditLog.Action action,
+                                Map<String, Object> oldValue, Map<String, Object> newValue) {
+        return new AuditEvent(userId, entityType, entityId, action, oldValue, newValue, LocalDateTime.now());
+    }
+    
+    public static Map<String, Object> snapshot(Transaction transaction) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("type", transaction.getType());
+        snapshot.put("value", transaction.getValue());
+        snapshot.put("description", transaction.getDescription());
+        snapshot.put("date", transaction.getDate());
+        snapshot.put("categoryId", transaction.getCategory().getId());
+        return snapshot;
+    }
+    
+    public static Map<String, Object> snapshot(Category category) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("name", category.getName());
+        return snapshot;
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.AuditProperties;
+import br.com.financetrackhub.entity.AuditLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+public class AuditLogWriter {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (user_id, entity_type, entity_id, action, old_value, new_value, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final BlockingQueue<AuditEvent> queue;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditSpool spool;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter writtenCounter;
+    private final Counter spooledCounter;
+    private final Counter droppedCounter;
+    
+    public AuditLogWriter(AuditProperties auditProperties, JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                          AuditSpool spool, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(auditProperties.getQueueCapacity());
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.spool = spool;
+        this.batchSize = auditProperties.getBatchSize();
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .description("Eventos de auditoria gravados no banco")
+                .register(meterRegistry);
+        this.spooledCounter = Counter.builder("audit.events.spooled")
+                .description("Eventos de auditoria desviados para o spool local")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Eventos de auditoria perdidos por falha no spool local")
+                .register(meterRegistry);
+        
+        Gauge.builder("audit.queue", queue, BlockingQueue::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuditEvent(AuditEvent event) {
+        if (!queue.offer(event)) {
+            spool(List.of(toRow(event)));
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${audit.flush-interval:1s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            boolean databaseAvailable = true;
+            int pending = queue.size();
+            List<AuditEvent> events = new ArrayList<>(batchSize);
+            
+            while (pending > 0 && queue.drainTo(events, Math.min(batchSize, pending)) > 0) {
+                pending -= events.size();
+                List<AuditLog> rows = events.stream().map(this::toRow).toList();
+                events.clear();
+                
+                if (databaseAvailable) {
+                    databaseAvailable = write(rows);
+                }
+                if (!databaseAvailable) {
+                    spool(rows);
+                }
+            }
+            
+            if (databaseAvailable && !spool.isEmpty()) {
+                replaySpool();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    private boolean write(List<AuditLog> rows) {
+        try {
+            insert(rows);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar {} eventos de auditoria; os eventos serão mantidos no spool local", rows.size(), e);
+            return false;
+        }
+    }
+    
+    // Cada lote é gravado por inteiro ou não é gravado, para que o spool possa reenviá-lo sem duplicar linhas
+    private void insert(List<AuditLog> rows) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getUserId());
+                    ps.setString(2, row.getEntityType().name());
+                    ps.setObject(3, row.getEntityId(), Types.BIGINT);
+                    ps.setString(4, row.getAction().name());
+                    ps.setString(5, row.getOldValue());
+                    ps.setString(6, row.getNewValue());
+                    ps.setTimestamp(7, Timestamp.valueOf(row.getOccurredAt()));
+                }));
+        writtenCounter.increment(rows.size());
+    }
+    
+    private void replaySpool() {
+        try {
+            int replayed = spool.replay(batchSize, this::insert);
+            if (replayed > 0) {
+                log.info("{} eventos de auditoria recuperados do spool local", replayed);
+            }
+        } catch (DataAccessException | IOException e) {
+            log.warn("Falha ao recuperar eventos de auditoria do spool local; nova tentativa no próximo ciclo", e);
+        }
+    }
+    
+    private void spool(List<AuditLog> rows) {
+        try {
+            spool.append(rows);
+            spooledCounter.increment(rows.size());
+        } catch (IOException e) {
+            log.error("Falha ao gravar {} eventos de auditoria no spool local", rows.size(), e);
+            droppedCounter.increment(rows.size());
+        }
+    }
+    
+    private AuditLog toRow(AuditEvent event) {
+        return new AuditLog(
+                null,
+                event.userId(),
+                event.entityType(),
+                event.entityId(),
+                event.action(),
+                toJson(event.oldValue()),
+                toJson(event.newValue()),
+                event.occurredAt()
+        );
+    }
+    
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento de auditoria", e);
+        }
+    }
+}
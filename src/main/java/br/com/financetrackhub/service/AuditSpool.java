@@ -0,0 +1,166 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.AuditProperties;
+import br.com.financetrackhub.entity.AuditLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class AuditSpool {
+    
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Path spoolFile;
+    private final Path replayFile;
+    private final Path checkpointFile;
+    
+    public AuditSpool(AuditProperties auditProperties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = auditProperties.getSpoolDirectory();
+        if (directory == null || directory.toString().isBlank()) {
+            throw new IllegalStateException("Defina audit.spool-directory com um diretório persistente para o spool de auditoria");
+        }
+        this.spoolFile = directory.resolve("audit-spool.ndjson");
+        this.replayFile = directory.resolve("audit-spool.replaying.ndjson");
+        this.checkpointFile = directory.resolve("audit-spool.replaying.committed");
+        
+        try {
+            createDirectory();
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível preparar o diretório de spool de auditoria " + directory, e);
+        }
+        if (!Files.isWritable(directory)) {
+            throw new IllegalStateException("Sem permissão de escrita no diretório de spool de auditoria " + directory);
+        }
+    }
+    
+    public synchronized void append(List<AuditLog> rows) throws IOException {
+        createDirectory();
+        try (BufferedWriter writer = newWriter(spoolFile, StandardOpenOption.APPEND)) {
+            for (AuditLog row : rows) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.newLine();
+            }
+        }
+    }
+    
+    public boolean isEmpty() {
+        return !Files.exists(replayFile) && !Files.exists(spoolFile);
+    }
+    
+    public int replay(int batchSize, Consumer<List<AuditLog>> writer) throws IOException {
+        synchronized (this) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spoolFile)) {
+                    return 0;
+                }
+                // Um checkpoint sem arquivo de reenvio sobrou de um reenvio já concluído
+                Files.deleteIfExists(checkpointFile);
+                Files.move(spoolFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        
+        // Linhas de lotes já gravados continuam no arquivo; o checkpoint diz quantas pular ao retomar
+        long committed = readCheckpoint();
+        long lineNumber = 0;
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (++lineNumber <= committed) {
+                    continue;
+                }
+                AuditLog row = parse(line);
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize) {
+                    writer.accept(batch);
+                    writeCheckpoint(lineNumber);
+                    replayed += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                writer.accept(batch);
+                writeCheckpoint(lineNumber);
+                replayed += batch.size();
+            }
+        }
+        
+        Files.delete(replayFile);
+        Files.deleteIfExists(checkpointFile);
+        return replayed;
+    }
+    
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).trim());
+    }
+    
+    // Gravado a cada lote confirmado, para que uma queda no meio do reenvio não regrave os lotes anteriores
+    private void writeCheckpoint(long lines) throws IOException {
+        Path pending = directory.resolve("audit-spool.replaying.committed.tmp");
+        try (BufferedWriter out = newWriter(pending, StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(Long.toString(lines));
+        }
+        Files.move(pending, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private void createDirectory() throws IOException {
+        if (POSIX) {
+            Files.createDirectories(directory, ownerOnly("rwx------"));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+    
+    // Os eventos trazem valores das transações dos usuários: os arquivos ficam legíveis só pelo dono
+    private BufferedWriter newWriter(Path file, OpenOption mode) throws IOException {
+        if (POSIX && Files.notExists(file)) {
+            Files.createFile(file, ownerOnly("rw-------"));
+        }
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+    }
+    
+    private static FileAttribute<?> ownerOnly(String permissions) {
+        return PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions));
+    }
+    
+    private AuditLog parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, AuditLog.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Linha inválida descartada do spool de auditoria: {}", line, e);
+            return null;
+        }
+    }
+}
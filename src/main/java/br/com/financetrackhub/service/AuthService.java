@@ -7,10 +7,10 @@ import br.com.financetrackhub.entity.User;
 import br.com.financetrackhub.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,8 +20,8 @@ public class AuthService {
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final LoginAttemptLimiter loginAttemptLimiter;
     
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userService.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Email já está em uso");
@@ -34,7 +34,7 @@ public class AuthService {
         
         user = userService.save(user);
         
-        String token = jwtService.generateToken(user.getEmail());
+        String token = jwtService.generateToken(user);
         
         AuthResponse.UserResponse userResponse = new AuthResponse.UserResponse(
                 user.getId(),
@@ -45,16 +45,27 @@ public class AuthService {
         return new AuthResponse(token, userResponse);
     }
     
-    public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        loginAttemptLimiter.reserve(request.getEmail(), clientIp);
+        
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (RuntimeException e) {
+            // Credenciais inválidas mantêm a reserva como falha; outros erros a devolvem
+            if (!(e instanceof BadCredentialsException)) {
+                loginAttemptLimiter.release(request.getEmail(), clientIp);
+            }
+            throw e;
+        }
+        loginAttemptLimiter.recordSuccess(request.getEmail(), clientIp);
         
         User user = userService.findByEmail(request.getEmail());
-        String token = jwtService.generateToken(user.getEmail());
+        String token = jwtService.generateToken(user);
         
         AuthResponse.UserResponse userResponse = new AuthResponse.UserResponse(
                 user.getId(),
@@ -0,0 +1,29 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+@Getter
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+    
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    
+    private final Long id;
+    
+    private AuthenticatedUser(Long id, String email, String password) {
+        super(email, password, AUTHORITIES);
+        this.id = id;
+    }
+    
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword());
+    }
+    
+    public static AuthenticatedUser fromToken(Long id, String email) {
+        return new AuthenticatedUser(id, email, "");
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.CacheProperties;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class CategoryCache {
+    
+    private final CategoryRepository categoryRepository;
+    private final UserService userService;
+    private final Cache<Long, UserCategories> cache;
+    
+    public CategoryCache(CategoryRepository categoryRepository, UserService userService,
+                         CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        this.userService = userService;
+        
+        CacheProperties.Spec spec = cacheProperties.getCategory();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "categories");
+    }
+    
+    public Optional<Category> findByIdAndUserId(Long id, Long userId) {
+        CategorySnapshot snapshot = loadContaining(userId, List.of(id)).byId().get(id);
+        return Optional.ofNullable(snapshot).map(s -> s.toCategory(userService.getReference(userId)));
+    }
+    
+    public List<Category> findByUserIdAndIdIn(Long userId, Collection<Long> ids) {
+        Map<Long, CategorySnapshot> byId = loadContaining(userId, ids).byId();
+        User user = userService.getReference(userId);
+        List<Category> categories = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            CategorySnapshot snapshot = byId.get(id);
+            if (snapshot != null) {
+                categories.add(snapshot.toCategory(user));
+            }
+        }
+        return categories;
+    }
+    
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+    
+    private UserCategories loadContaining(Long userId, Collection<Long> ids) {
+        UserCategories categories = load(userId);
+        if (categories.byId().keySet().containsAll(ids)) {
+            return categories;
+        }
+        
+        // Outra instância pode ter criado a categoria depois que este snapshot foi carregado
+        cache.invalidate(userId);
+        return load(userId);
+    }
+    
+    private UserCategories load(Long userId) {
+        return cache.get(userId, key -> {
+            List<Category> categories = categoryRepository.findByUserId(key);
+            return new UserCategories(
+                    categories.stream()
+                            .map(CategorySnapshot::of)
+                            .collect(Collectors.toUnmodifiableMap(CategorySnapshot::id, Function.identity()))
+            );
+        });
+    }
+    
+    private record UserCategories(Map<Long, CategorySnapshot> byId) {
+    }
+    
+    private record CategorySnapshot(Long id, String name, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        
+        static CategorySnapshot of(Category category) {
+            return new CategorySnapshot(category.getId(), category.getName(),
+                    category.getCreatedAt(), category.getUpdatedAt());
+        }
+        
+        Category toCategory(User user) {
+            return new Category(id, name, user, createdAt, updatedAt);
+        }
+    }
+}
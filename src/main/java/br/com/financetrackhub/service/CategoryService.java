@@ -3,11 +3,13 @@ package br.com.financetrackhub.service;
 import br.com.financetrackhub.dto.CategoryRequest;
 import br.com.financetrackhub.dto.CategoryResponse;
 import br.com.financetrackhub.dto.PageResponse;
+import br.com.financetrackhub.entity.AuditLog;
 import br.com.financetrackhub.entity.Category;
-import br.com.financetrackhub.entity.User;
 import br.com.financetrackhub.exception.BadRequestException;
 import br.com.financetrackhub.repository.CategoryRepository;
+import br.com.financetrackhub.repository.RecurringTransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,22 +25,25 @@ import java.util.stream.Collectors;
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final RecurringTransactionRepository recurringTransactionRepository;
     private final UserService userService;
+    private final MonthlySummaryService monthlySummaryService;
+    private final CategoryCache categoryCache;
+    private final UserDataVersionService userDataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional(readOnly = true)
-    public List<CategoryResponse> findAllByUser(String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        List<Category> categories = categoryRepository.findByUser(user);
+    public List<CategoryResponse> findAllByUser(Long userId) {
+        List<Category> categories = categoryRepository.findByUserId(userId);
         return categories.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
-    public PageResponse<CategoryResponse> findAllByUserPaginated(String userEmail, int page, int size) {
-        User user = userService.findByEmail(userEmail);
+    public PageResponse<CategoryResponse> findAllByUserPaginated(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Category> categoryPage = categoryRepository.findByUserOrderByIdDesc(user, pageable);
+        Page<Category> categoryPage = categoryRepository.findByUserIdOrderByIdDesc(userId, pageable);
         
         List<CategoryResponse> content = categoryPage.getContent().stream()
                 .map(this::toResponse)
@@ -55,52 +61,62 @@ public class CategoryService {
     }
     
     @Transactional(readOnly = true)
-    public CategoryResponse findById(Long id, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Category category = categoryRepository.findByIdAndUser(id, user)
+    public CategoryResponse findById(Long id, Long userId) {
+        Category category = categoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Categoria não encontrada"));
         return toResponse(category);
     }
     
     @Transactional
-    public CategoryResponse create(CategoryRequest request, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        
-        if (categoryRepository.existsByNameAndUser(request.getName(), user)) {
+    public CategoryResponse create(CategoryRequest request, Long userId) {
+        if (categoryRepository.existsByNameAndUserId(request.getName(), userId)) {
             throw new BadRequestException("Já existe uma categoria com este nome");
         }
         
         Category category = new Category();
         category.setName(request.getName());
-        category.setUser(user);
+        category.setUser(userService.getReference(userId));
         
         category = categoryRepository.save(category);
+        categoryCache.evict(userId);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.CATEGORY, category.getId(),
+                AuditLog.Action.CREATE, null, AuditEvent.snapshot(category)));
         return toResponse(category);
     }
     
     @Transactional
-    public CategoryResponse update(Long id, CategoryRequest request, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Category category = categoryRepository.findByIdAndUser(id, user)
+    public CategoryResponse update(Long id, CategoryRequest request, Long userId) {
+        Category category = categoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Categoria não encontrada"));
         
         if (!category.getName().equals(request.getName()) && 
-            categoryRepository.existsByNameAndUser(request.getName(), user)) {
+            categoryRepository.existsByNameAndUserId(request.getName(), userId)) {
             throw new BadRequestException("Já existe uma categoria com este nome");
         }
         
+        Map<String, Object> before = AuditEvent.snapshot(category);
         category.setName(request.getName());
         
         category = categoryRepository.save(category);
+        categoryCache.evict(userId);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.CATEGORY, id,
+                AuditLog.Action.UPDATE, before, AuditEvent.snapshot(category)));
         return toResponse(category);
     }
     
     @Transactional
-    public void delete(Long id, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Category category = categoryRepository.findByIdAndUser(id, user)
+    public void delete(Long id, Long userId) {
+        Category category = categoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Categoria não encontrada"));
+        monthlySummaryService.deleteByCategory(category);
+        recurringTransactionRepository.deleteByCategoryId(category.getId());
         categoryRepository.delete(category);
+        categoryCache.evict(userId);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.CATEGORY, id,
+                AuditLog.Action.DELETE, AuditEvent.snapshot(category), null));
     }
     
     private CategoryResponse toResponse(Category category) {
@@ -0,0 +1,94 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.aggregation.CategoryTotals;
+import br.com.financetrackhub.aggregation.CentsBuckets;
+import br.com.financetrackhub.aggregation.Money;
+import br.com.financetrackhub.dto.DashboardResponse;
+import br.com.financetrackhub.entity.Transaction;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DashboardAggregation {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final DashboardQuery.Granularity granularity;
+    private final CentsBuckets netByBucket;
+    private final CategoryTotals expensesByCategory = new CategoryTotals();
+    private long income;
+    private long expenses;
+    private long openingBalance;
+    private LocalDate lastActivity;
+
+    DashboardAggregation(LocalDate startDate, LocalDate endDate, DashboardQuery.Granularity granularity) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.granularity = granularity;
+        this.netByBucket = new CentsBuckets(endDate.isBefore(startDate) ? 0 : granularity.bucketCount(startDate, endDate));
+    }
+
+    public void addTypeTotal(Transaction.TransactionType type, long cents) {
+        if (type == Transaction.TransactionType.INCOME) {
+            income = Money.add(income, cents);
+        } else {
+            expenses = Money.add(expenses, cents);
+        }
+    }
+
+    public void addCategoryExpense(Long categoryId, String name, long cents) {
+        expensesByCategory.add(categoryId, name, cents);
+    }
+
+    public void addOpeningBalance(long cents) {
+        openingBalance = Money.add(openingBalance, cents);
+    }
+
+    public void addNet(LocalDate date, long cents) {
+        if (date.isBefore(startDate)) {
+            openingBalance = Money.add(openingBalance, cents);
+        } else if (!date.isAfter(endDate)) {
+            netByBucket.add(granularity.bucketIndex(startDate, date), cents);
+            if (lastActivity == null || date.isAfter(lastActivity)) {
+                lastActivity = date;
+            }
+        }
+    }
+
+    public DashboardResponse toResponse() {
+        return toResponse(netByBucket.size());
+    }
+
+    public DashboardResponse toResponseUntilLastActivity(LocalDate limit) {
+        if (lastActivity == null) {
+            return toResponse(0);
+        }
+        LocalDate seriesEnd = lastActivity.isAfter(limit) ? limit : lastActivity;
+        return toResponse(seriesEnd.isBefore(startDate) ? 0 : granularity.bucketIndex(startDate, seriesEnd) + 1);
+    }
+
+    private DashboardResponse toResponse(int buckets) {
+        DashboardResponse.Summary summary = new DashboardResponse.Summary(
+                Money.toBigDecimal(income),
+                Money.toBigDecimal(expenses),
+                Money.toBigDecimal(Math.subtractExact(income, expenses))
+        );
+
+        List<DashboardResponse.CategoryData> categoryData = new ArrayList<>(expensesByCategory.size());
+        for (int i = 0; i < expensesByCategory.size(); i++) {
+            categoryData.add(new DashboardResponse.CategoryData(
+                    expensesByCategory.name(i), Money.toBigDecimal(expensesByCategory.total(i))));
+        }
+
+        long[] balances = netByBucket.runningTotals(openingBalance);
+        List<DashboardResponse.MonthlyData> monthlyData = new ArrayList<>(buckets);
+        LocalDate bucket = granularity.bucketStart(startDate);
+        for (int i = 0; i < buckets; i++) {
+            monthlyData.add(new DashboardResponse.MonthlyData(granularity.format(bucket), Money.toBigDecimal(balances[i])));
+            bucket = granularity.next(bucket);
+        }
+
+        return new DashboardResponse(summary, categoryData, monthlyData);
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.aggregation.Money;
+import br.com.financetrackhub.entity.Transaction;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Component
+public class DashboardAggregator {
+    
+    private static final int SPLIT_THRESHOLD = 10_000;
+    
+    public DashboardAggregation start(LocalDate startDate, LocalDate endDate, DashboardQuery.Granularity granularity) {
+        return new DashboardAggregation(startDate, endDate, granularity);
+    }
+    
+    // Agrega transações já carregadas em memória; históricos grandes são divididos com fork/join
+    public DashboardAggregation aggregate(DashboardAggregation aggregation, List<Transaction> transactions) {
+        return transactions.size() <= SPLIT_THRESHOLD
+                ? singlePass(aggregation, transactions)
+                : forkJoin(aggregation, transactions);
+    }
+    
+    DashboardAggregation singlePass(DashboardAggregation aggregation, List<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            long cents = Money.toCents(transaction.getValue());
+            aggregation.addTypeTotal(transaction.getType(), cents);
+            if (transaction.getType() == Transaction.TransactionType.INCOME) {
+                aggregation.addNet(transaction.getDate(), cents);
+            } else {
+                aggregation.addCategoryExpense(transaction.getCategory().getId(), transaction.getCategory().getName(), cents);
+                aggregation.addNet(transaction.getDate(), -cents);
+            }
+        }
+        return aggregation;
+    }
+    
+    DashboardAggregation forkJoin(DashboardAggregation aggregation, List<Transaction> transactions) {
+        ForkJoinPool.commonPool().invoke(new PartialTask(transactions, 0, transactions.size())).addTo(aggregation);
+        return aggregation;
+    }
+    
+    private static final class Partial {
+        
+        private long income;
+        private long expenses;
+        private final Map<Long, CategorySum> expensesByCategory = new LinkedHashMap<>();
+        private final Map<LocalDate, Long> netByDate = new HashMap<>();
+        
+        void add(Transaction transaction) {
+            long cents = Money.toCents(transaction.getValue());
+            if (transaction.getType() == Transaction.TransactionType.INCOME) {
+                income = Money.add(income, cents);
+                netByDate.merge(transaction.getDate(), cents, Money::add);
+            } else {
+                expenses = Money.add(expenses, cents);
+                expensesByCategory.computeIfAbsent(transaction.getCategory().getId(),
+                        id -> new CategorySum(transaction.getCategory().getName())).cents += cents;
+                netByDate.merge(transaction.getDate(), -cents, Money::add);
+            }
+        }
+        
+        // A parte da esquerda vem primeiro, preservando a ordem de primeira ocorrência das categorias
+        Partial merge(Partial right) {
+            income = Money.add(income, right.income);
+            expenses = Money.add(expenses, right.expenses);
+            right.expensesByCategory.forEach((id, sum) ->
+                    expensesByCategory.computeIfAbsent(id, key -> new CategorySum(sum.name)).cents += sum.cents);
+            right.netByDate.forEach((date, cents) -> netByDate.merge(date, cents, Money::add));
+            return this;
+        }
+        
+        void addTo(DashboardAggregation aggregation) {
+            aggregation.addTypeTotal(Transaction.TransactionType.INCOME, income);
+            aggregation.addTypeTotal(Transaction.TransactionType.EXPENSE, expenses);
+            expensesByCategory.forEach((id, sum) -> aggregation.addCategoryExpense(id, sum.name, sum.cents));
+            netByDate.forEach(aggregation::addNet);
+        }
+    }
+    
+    private static final class CategorySum {
+        
+        private final String name;
+        private long cents;
+        
+        CategorySum(String name) {
+            this.name = name;
+        }
+    }
+    
+    private static final class PartialTask extends RecursiveTask<Partial> {
+        
+        private final List<Transaction> transactions;
+        private final int from;
+        private final int to;
+        
+        PartialTask(List<Transaction> transactions, int from, int to) {
+            this.transactions = transactions;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Partial compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Partial partial = new Partial();
+                for (int i = from; i < to; i++) {
+                    partial.add(transactions.get(i));
+                }
+                return partial;
+            }
+            int middle = (from + to) >>> 1;
+            PartialTask left = new PartialTask(transactions, from, middle);
+            PartialTask right = new PartialTask(transactions, middle, to);
+            left.fork();
+            Partial rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
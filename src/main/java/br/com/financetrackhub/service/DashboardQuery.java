@@ -0,0 +1,91 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.exception.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public record DashboardQuery(LocalDate startDate, LocalDate endDate, Granularity granularity) {
+    
+    public static final DashboardQuery DEFAULT = new DashboardQuery(null, null, null);
+    
+    private static final int MAX_BUCKETS = 1000;
+    
+    public static DashboardQuery of(LocalDate startDate, LocalDate endDate, String granularity) {
+        if (startDate == null && endDate == null && (granularity == null || granularity.isEmpty())) {
+            return DEFAULT;
+        }
+        
+        LocalDate today = LocalDate.now();
+        LocalDate start = startDate != null ? startDate : today.withDayOfMonth(1);
+        LocalDate end = endDate != null ? endDate : today;
+        Granularity bucket = Granularity.parse(granularity);
+        
+        if (start.isAfter(end)) {
+            throw new BadRequestException("A data inicial deve ser anterior ou igual à data final");
+        }
+        if (bucket.unit.between(bucket.bucketStart(start), end) >= MAX_BUCKETS) {
+            throw new BadRequestException("Período muito longo para a granularidade informada");
+        }
+        
+        return new DashboardQuery(start, end, bucket);
+    }
+    
+    public boolean isDefault() {
+        return startDate == null;
+    }
+    
+    public enum Granularity {
+        DAY(ChronoUnit.DAYS, "dd/MM"),
+        WEEK(ChronoUnit.WEEKS, "dd/MM"),
+        MONTH(ChronoUnit.MONTHS, "MM/yyyy"),
+        YEAR(ChronoUnit.YEARS, "yyyy");
+        
+        private final ChronoUnit unit;
+        private final DateTimeFormatter formatter;
+        
+        Granularity(ChronoUnit unit, String pattern) {
+            this.unit = unit;
+            this.formatter = DateTimeFormatter.ofPattern(pattern);
+        }
+        
+        public static Granularity parse(String granularity) {
+            if (granularity == null || granularity.isEmpty()) {
+                return DAY;
+            }
+            try {
+                return Granularity.valueOf(granularity.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Granularidade inválida. Use 'day', 'week', 'month' ou 'year'");
+            }
+        }
+        
+        public LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case YEAR -> date.withDayOfYear(1);
+            };
+        }
+        
+        public int bucketIndex(LocalDate origin, LocalDate date) {
+            return Math.toIntExact(unit.between(bucketStart(origin), bucketStart(date)));
+        }
+        
+        public int bucketCount(LocalDate startDate, LocalDate endDate) {
+            return bucketIndex(startDate, endDate) + 1;
+        }
+        
+        public LocalDate next(LocalDate bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+        
+        public String format(LocalDate bucketStart) {
+            return bucketStart.format(formatter);
+        }
+    }
+}
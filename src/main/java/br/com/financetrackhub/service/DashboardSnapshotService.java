@@ -0,0 +1,68 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.DashboardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+    
+    private final TransactionService transactionService;
+    private final DashboardSnapshotStore dashboardSnapshotStore;
+    private final ConcurrentMap<InFlightKey, CompletableFuture<DashboardResponse>> inFlight = new ConcurrentHashMap<>();
+    
+    public DashboardResponse getDashboard(Long userId, long version, DashboardQuery query) {
+        LocalDate today = LocalDate.now();
+        DashboardSnapshotStore.Snapshot snapshot = dashboardSnapshotStore.get(userId, query).orElse(null);
+        if (snapshot != null && snapshot.isCurrent(today, version, query)) {
+            return snapshot.response();
+        }
+        
+        InFlightKey key = new InFlightKey(userId, today, version, query);
+        CompletableFuture<DashboardResponse> future = new CompletableFuture<>();
+        CompletableFuture<DashboardResponse> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return await(running);
+        }
+        
+        try {
+            DashboardResponse response = transactionService.getDashboardData(userId, query);
+            dashboardSnapshotStore.put(userId, new DashboardSnapshotStore.Snapshot(today, version, query, response));
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        dashboardSnapshotStore.evict(event.userId());
+    }
+    
+    private DashboardResponse await(CompletableFuture<DashboardResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+    
+    private record InFlightKey(Long userId, LocalDate date, long version, DashboardQuery query) {
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.DashboardResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DashboardSnapshotStore {
+    
+    Optional<Snapshot> get(Long userId, DashboardQuery query);
+    
+    void put(Long userId, Snapshot snapshot);
+    
+    void evict(Long userId);
+    
+    record Snapshot(LocalDate date, long version, DashboardQuery query, DashboardResponse response) {
+        
+        public boolean isCurrent(LocalDate today, long currentVersion, DashboardQuery currentQuery) {
+            return date.equals(today) && version == currentVersion && query.equals(currentQuery);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.DashboardStreamProperties;
+import br.com.financetrackhub.dto.DashboardDeltaResponse;
+import br.com.financetrackhub.dto.DashboardResponse;
+import br.com.financetrackhub.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class DashboardStreamService {
+    
+    private static final int SYNC_BATCH_SIZE = 500;
+    
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final UserDataVersionService userDataVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final SimpleAsyncTaskExecutor sendExecutor;
+    private final DashboardStreamProperties streamProperties;
+    private final ConcurrentMap<Long, UserStreams> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter eventsCounter;
+    private final Counter slowConsumerCounter;
+    
+    public DashboardStreamService(DashboardSnapshotService dashboardSnapshotService,
+                                  UserDataVersionService userDataVersionService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                  DashboardStreamProperties streamProperties,
+                                  MeterRegistry meterRegistry) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.userDataVersionService = userDataVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        // emitter.send blocks while the client's socket is full; on virtual threads a slow client only parks
+        // its own thread instead of holding one of the shared executor's platform threads.
+        this.sendExecutor = new SimpleAsyncTaskExecutor("dashboard-stream-");
+        this.sendExecutor.setVirtualThreads(true);
+        this.streamProperties = streamProperties;
+        this.eventsCounter = Counter.builder("dashboard.stream.events")
+                .description("Eventos enviados às conexões de acompanhamento do dashboard")
+                .register(meterRegistry);
+        this.slowConsumerCounter = Counter.builder("dashboard.stream.slow.consumers")
+                .description("Conexões encerradas por buffer de envio cheio")
+                .register(meterRegistry);
+        
+        Gauge.builder("dashboard.stream.connections", connections, AtomicInteger::get)
+                .description("Conexões abertas de acompanhamento do dashboard")
+                .register(meterRegistry);
+    }
+    
+    public SseEmitter subscribe(Long userId, DashboardQuery query) {
+        if (connections.incrementAndGet() > streamProperties.getMaxConnections()) {
+            connections.decrementAndGet();
+            throw new TooManyRequestsException("Limite de conexões de acompanhamento do dashboard atingido. Tente novamente mais tarde");
+        }
+        
+        Subscription subscription = new Subscription(userId, query);
+        UserStreams userStreams;
+        try {
+            userStreams = streams.compute(userId, (id, current) -> {
+                UserStreams created = current != null ? current : new UserStreams();
+                if (created.subscriptions.size() >= streamProperties.getMaxConnectionsPerUser()) {
+                    throw new TooManyRequestsException("Muitas conexões abertas para o dashboard deste usuário");
+                }
+                created.subscriptions.add(subscription);
+                return created;
+            });
+        } catch (TooManyRequestsException e) {
+            connections.decrementAndGet();
+            throw e;
+        }
+        
+        SseEmitter emitter = subscription.emitter;
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(subscription));
+        
+        try {
+            long version = userDataVersionService.currentVersion(userId);
+            subscription.update(version, dashboardSnapshotService.getDashboard(userId, version, query));
+            userStreams.observed(version);
+        } catch (RuntimeException e) {
+            unsubscribe(subscription);
+            throw e;
+        }
+        return emitter;
+    }
+    
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        UserStreams userStreams = streams.get(event.userId());
+        if (userStreams == null) {
+            return;
+        }
+        schedule(event.userId(), userStreams);
+    }
+    
+    // UserDataChangedEvent only reaches the node that committed the write. Writes served by other nodes and
+    // scheduled jobs running elsewhere are picked up here from the shared version table, so the stream does
+    // not depend on sticky routing; they arrive within one sync interval instead of right after the commit.
+    @Scheduled(fixedDelayString = "${dashboard.stream.sync-interval:5s}")
+    public void syncVersions() {
+        List<Long> userIds = new ArrayList<>(streams.keySet());
+        for (int from = 0; from < userIds.size(); from += SYNC_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + SYNC_BATCH_SIZE, userIds.size()));
+            // Read-write so the lookup goes to the primary and never sees a version older than a lagging replica's.
+            Map<Long, Long> versions = transactionTemplate.execute(status -> userDataVersionService.currentVersions(batch));
+            versions.forEach((userId, version) -> {
+                UserStreams userStreams = streams.get(userId);
+                if (userStreams != null && version > userStreams.version.get()) {
+                    schedule(userId, userStreams);
+                }
+            });
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-interval:25s}")
+    public void sendHeartbeats() {
+        streams.values().forEach(userStreams -> userStreams.subscriptions.forEach(
+                subscription -> subscription.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+    
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        streams.values().forEach(userStreams -> userStreams.subscriptions.forEach(subscription -> {
+            unsubscribe(subscription);
+            subscription.emitter.complete();
+        }));
+    }
+    
+    private void schedule(Long userId, UserStreams userStreams) {
+        userStreams.dirty.set(true);
+        taskExecutor.execute(() -> refresh(userId, userStreams));
+    }
+    
+    private void refresh(Long userId, UserStreams userStreams) {
+        while (userStreams.dirty.get() && userStreams.running.compareAndSet(false, true)) {
+            try {
+                while (userStreams.dirty.getAndSet(false)) {
+                    push(userId, userStreams);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao atualizar o dashboard em tempo real do usuário {}", userId, e);
+            } finally {
+                userStreams.running.set(false);
+            }
+        }
+    }
+    
+    private void push(Long userId, UserStreams userStreams) {
+        // Runs in a read-write transaction so the read-only queries join it and see the commit that
+        // triggered the push, even when read-only transactions are routed to a lagging replica.
+        Map<Subscription, DashboardResponse> dashboards = new HashMap<>();
+        long version = transactionTemplate.execute(status -> {
+            long current = userDataVersionService.currentVersion(userId);
+            Map<DashboardQuery, DashboardResponse> byQuery = new HashMap<>();
+            for (Subscription subscription : userStreams.subscriptions) {
+                dashboards.put(subscription, byQuery.computeIfAbsent(subscription.query,
+                        query -> dashboardSnapshotService.getDashboard(userId, current, query)));
+            }
+            return current;
+        });
+        dashboards.forEach((subscription, dashboard) -> subscription.update(version, dashboard));
+        userStreams.observed(version);
+    }
+    
+    private void unsubscribe(Subscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscription.buffer.clear();
+        connections.decrementAndGet();
+        streams.computeIfPresent(subscription.userId, (id, userStreams) -> {
+            userStreams.subscriptions.remove(subscription);
+            return userStreams.subscriptions.isEmpty() ? null : userStreams;
+        });
+    }
+    
+    static DashboardDeltaResponse delta(DashboardResponse previous, DashboardResponse current) {
+        Map<String, BigDecimal> previousCategories = new LinkedHashMap<>();
+        previous.getCategoryData().forEach(category -> previousCategories.put(category.getName(), category.getValue()));
+        List<DashboardResponse.CategoryData> categories = new ArrayList<>();
+        for (DashboardResponse.CategoryData category : current.getCategoryData()) {
+            if (!Objects.equals(previousCategories.remove(category.getName()), category.getValue())) {
+                categories.add(category);
+            }
+        }
+        
+        Map<String, BigDecimal> previousDays = new HashMap<>();
+        previous.getMonthlyData().forEach(day -> previousDays.put(day.getDate(), day.getValue()));
+        List<DashboardResponse.MonthlyData> days = new ArrayList<>();
+        for (DashboardResponse.MonthlyData day : current.getMonthlyData()) {
+            if (!Objects.equals(previousDays.get(day.getDate()), day.getValue())) {
+                days.add(day);
+            }
+        }
+        
+        return new DashboardDeltaResponse(
+                previous.getSummary().equals(current.getSummary()) ? null : current.getSummary(),
+                categories,
+                new ArrayList<>(previousCategories.keySet()),
+                days
+        );
+    }
+    
+    private static boolean shrinksSeries(DashboardResponse previous, DashboardResponse current) {
+        return current.getMonthlyData().size() < previous.getMonthlyData().size();
+    }
+    
+    private static final class UserStreams {
+        private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicLong version = new AtomicLong(-1);
+        
+        private void observed(long current) {
+            version.accumulateAndGet(current, Math::max);
+        }
+    }
+    
+    private final class Subscription {
+        private final Long userId;
+        private final DashboardQuery query;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private DashboardResponse last;
+        private long lastVersion = -1;
+        
+        private Subscription(Long userId, DashboardQuery query) {
+            this.userId = userId;
+            this.query = query;
+            this.emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+            this.buffer = new ArrayBlockingQueue<>(streamProperties.getBufferSize());
+        }
+        
+        private synchronized void update(long version, DashboardResponse dashboard) {
+            // The initial snapshot races with pushes triggered by writes committed meanwhile; never go back in time.
+            if (version < lastVersion) {
+                return;
+            }
+            lastVersion = version;
+            if (last == null || shrinksSeries(last, dashboard)) {
+                enqueue(event("snapshot", version, dashboard));
+            } else {
+                DashboardDeltaResponse delta = delta(last, dashboard);
+                if (delta.isEmpty()) {
+                    return;
+                }
+                enqueue(event("delta", version, delta));
+            }
+            last = dashboard;
+        }
+        
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                // The client is not keeping up; it reconnects and starts again from a fresh snapshot.
+                slowConsumerCounter.increment();
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            sendExecutor.execute(this::drain);
+        }
+        
+        private void drain() {
+            while (!buffer.isEmpty() && sendLock.tryLock()) {
+                try {
+                    SseEmitter.SseEventBuilder event;
+                    while ((event = buffer.poll()) != null) {
+                        emitter.send(event);
+                        eventsCounter.increment();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(this);
+                    return;
+                } finally {
+                    sendLock.unlock();
+                }
+            }
+        }
+        
+        private SseEmitter.SseEventBuilder event(String name, long version, Object data) {
+            return SseEmitter.event()
+                    .name(name)
+                    .id(String.valueOf(version))
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
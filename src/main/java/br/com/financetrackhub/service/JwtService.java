@@ -1,28 +1,125 @@
 package br.com.financetrackhub.service;
 
+import br.com.financetrackhub.config.CacheProperties;
 import br.com.financetrackhub.config.JwtProperties;
+import br.com.financetrackhub.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
     
+    private static final String USER_ID_CLAIM = "uid";
+    
     @Autowired
     private JwtProperties jwtProperties;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    private CacheProperties cacheProperties;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> verifiedTokens;
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+    
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        
+        CacheProperties.Spec spec = cacheProperties.getToken();
+        long maxTtlNanos = spec.getTtl().toNanos();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long untilExpiration = (claims.getExpiration().getTime() - System.currentTimeMillis()) * 1_000_000;
+                        return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+        cachedTimer = verificationTimer("cached");
+        verifiedTimer = verificationTimer("verified");
+        rejectedTimer = verificationTimer("rejected");
+    }
+    
+    private Timer verificationTimer(String outcome) {
+        return Timer.builder("auth.jwt.verify")
+                .description("Tempo de verificação de tokens JWT")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+    
+    public Optional<Claims> verify(String token) {
+        long start = System.nanoTime();
+        String key = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(key);
+        Timer timer = cachedTimer;
+        
+        if (claims == null) {
+            try {
+                claims = extractAllClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return Optional.empty();
+            }
+            verifiedTokens.put(key, claims);
+            timer = verifiedTimer;
+        }
+        
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return isExpired(claims) ? Optional.empty() : Optional.of(claims);
+    }
+    
+    public Long extractUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
     }
     
     public String extractUsername(String token) {
@@ -39,9 +136,7 @@ public class JwtService {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -50,11 +145,30 @@ public class JwtService {
         return extractExpiration(token).before(new Date());
     }
     
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration() == null || claims.getExpiration().before(new Date());
+    }
+    
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, userDetails.getUsername());
     }
     
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        return createToken(claims, user.getEmail());
+    }
+    
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, username);
@@ -66,10 +180,14 @@ public class JwtService {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+    
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
@@ -83,4 +201,3 @@ public class JwtService {
         }
     }
 }
-
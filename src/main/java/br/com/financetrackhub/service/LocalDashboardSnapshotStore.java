@@ -0,0 +1,47 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.CacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "cache", name = "dashboard-store", havingValue = "local", matchIfMissing = true)
+public class LocalDashboardSnapshotStore implements DashboardSnapshotStore {
+    
+    private static final int MAX_QUERIES_PER_USER = 8;
+    
+    private final Cache<Long, Cache<DashboardQuery, Snapshot>> cache;
+    
+    public LocalDashboardSnapshotStore(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.getDashboard();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard-snapshots");
+    }
+    
+    @Override
+    public Optional<Snapshot> get(Long userId, DashboardQuery query) {
+        return Optional.ofNullable(cache.getIfPresent(userId))
+                .map(snapshots -> snapshots.getIfPresent(query));
+    }
+    
+    @Override
+    public void put(Long userId, Snapshot snapshot) {
+        cache.get(userId, key -> Caffeine.newBuilder().maximumSize(MAX_QUERIES_PER_USER).build())
+                .put(snapshot.query(), snapshot);
+    }
+    
+    @Override
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.AuthProperties;
+import br.com.financetrackhub.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class LoginAttemptLimiter {
+    
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final Cache<String, AtomicInteger> failuresByIp;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final Counter throttledCounter;
+    
+    public LoginAttemptLimiter(AuthProperties authProperties, MeterRegistry meterRegistry) {
+        AuthProperties.LoginThrottle config = authProperties.getLoginThrottle();
+        this.failuresByEmail = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getWindow())
+                .build();
+        this.failuresByIp = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getWindow())
+                .build();
+        this.maxAttemptsPerEmail = config.getMaxAttemptsPerEmail();
+        this.maxAttemptsPerIp = config.getMaxAttemptsPerIp();
+        this.throttledCounter = Counter.builder("auth.login.throttled")
+                .description("Tentativas de login bloqueadas pelo limite de tentativas")
+                .register(meterRegistry);
+    }
+    
+    // Reserva a tentativa antes da verificação da senha, para que requisições simultâneas
+    // não passem todas pela checagem antes de a primeira falha ser contada
+    public void reserve(String email, String clientIp) {
+        AtomicInteger emailAttempts = failuresByEmail.get(normalize(email), key -> new AtomicInteger());
+        if (emailAttempts.incrementAndGet() > maxAttemptsPerEmail) {
+            emailAttempts.decrementAndGet();
+            throw throttled();
+        }
+        if (clientIp != null) {
+            AtomicInteger ipAttempts = failuresByIp.get(clientIp, key -> new AtomicInteger());
+            if (ipAttempts.incrementAndGet() > maxAttemptsPerIp) {
+                ipAttempts.decrementAndGet();
+                emailAttempts.decrementAndGet();
+                throw throttled();
+            }
+        }
+    }
+    
+    public void release(String email, String clientIp) {
+        decrement(failuresByEmail, normalize(email));
+        decrement(failuresByIp, clientIp);
+    }
+    
+    public void recordSuccess(String email, String clientIp) {
+        failuresByEmail.invalidate(normalize(email));
+        decrement(failuresByIp, clientIp);
+    }
+    
+    private TooManyRequestsException throttled() {
+        throttledCounter.increment();
+        return new TooManyRequestsException("Muitas tentativas de login. Tente novamente mais tarde");
+    }
+    
+    private void decrement(Cache<String, AtomicInteger> cache, String key) {
+        if (key == null) {
+            return;
+        }
+        AtomicInteger counter = cache.getIfPresent(key);
+        if (counter != null) {
+            counter.updateAndGet(value -> Math.max(0, value - 1));
+        }
+    }
+    
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
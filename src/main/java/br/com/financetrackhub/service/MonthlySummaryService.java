@@ -0,0 +1,153 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.aggregation.Money;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.MonthlySummaryRepository;
+import br.com.financetrackhub.repository.TransactionRepository;
+import br.com.financetrackhub.repository.UserRepository;
+import br.com.financetrackhub.repository.projection.CategoryTotal;
+import br.com.financetrackhub.repository.projection.MonthlyTotal;
+import br.com.financetrackhub.repository.projection.TypeTotal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlySummaryService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO monthly_summaries (user_id, category_id, type, reference_month, total, transaction_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final MonthlySummaryRepository monthlySummaryRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void add(Transaction transaction) {
+        apply(transaction, transaction.getValue(), 1);
+    }
+
+    @Transactional
+    public void addAll(List<Transaction> transactions) {
+        Map<SummaryKey, long[]> totals = new LinkedHashMap<>();
+        Map<Long, Category> categories = new HashMap<>();
+        
+        for (Transaction transaction : transactions) {
+            SummaryKey key = new SummaryKey(
+                    transaction.getUser().getId(),
+                    transaction.getCategory().getId(),
+                    transaction.getType(),
+                    transaction.getDate().withDayOfMonth(1)
+            );
+            long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+            total[0] = Money.add(total[0], Money.toCents(transaction.getValue()));
+            total[1]++;
+            categories.putIfAbsent(transaction.getCategory().getId(), transaction.getCategory());
+        }
+        
+        totals.forEach((key, total) -> apply(
+                userRepository.getReferenceById(key.userId()),
+                categories.get(key.categoryId()),
+                key.type(),
+                key.referenceMonth(),
+                Money.toBigDecimal(total[0]),
+                total[1]
+        ));
+    }
+
+    @Transactional
+    public void remove(Transaction transaction) {
+        apply(transaction, transaction.getValue().negate(), -1);
+    }
+
+    @Transactional
+    public void apply(User user, Category category, Transaction.TransactionType type,
+                      LocalDate date, BigDecimal delta, long count) {
+        LocalDate referenceMonth = date.withDayOfMonth(1);
+        if (monthlySummaryRepository.applyDelta(user.getId(), category.getId(), type, referenceMonth, delta, count) > 0) {
+            return;
+        }
+        // A concurrent first write for the same month may insert the row between the update and the insert;
+        // in that case the row exists now and the delta goes through the update again.
+        if (!insertIfAbsent(user.getId(), category.getId(), type, referenceMonth, delta, count)) {
+            monthlySummaryRepository.applyDelta(user.getId(), category.getId(), type, referenceMonth, delta, count);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<TypeTotal> sumByType(Long userId) {
+        return monthlySummaryRepository.sumByType(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategoryTotal> sumByCategory(Long userId, Transaction.TransactionType type) {
+        return monthlySummaryRepository.sumByCategory(userId, type);
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal sumNetBefore(Long userId, LocalDate referenceMonth) {
+        return monthlySummaryRepository.sumNetBefore(userId, referenceMonth, Transaction.TransactionType.INCOME);
+    }
+
+    @Transactional
+    public void deleteByCategory(Category category) {
+        monthlySummaryRepository.deleteByCategory(category);
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (monthlySummaryRepository.count() > 0 || transactionRepository.count() == 0) {
+            return;
+        }
+
+        // Every node runs this at startup; rows already rebuilt by another node are kept as they are.
+        List<MonthlyTotal> rows = transactionRepository.sumGroupedByUserCategoryTypeAndMonth();
+        int inserted = 0;
+        for (MonthlyTotal row : rows) {
+            if (insertIfAbsent(row.getUserId(), row.getCategoryId(), row.getType(),
+                    LocalDate.of(row.getYear(), row.getMonth(), 1), row.getTotal(), row.getTransactionCount())) {
+                inserted++;
+            }
+        }
+
+        log.info("Resumos mensais reconstruídos: {} de {} agrupamentos de transações", inserted, rows.size());
+    }
+
+    private boolean insertIfAbsent(Long userId, Long categoryId, Transaction.TransactionType type,
+                                   LocalDate referenceMonth, BigDecimal total, long count) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId, categoryId, type.name(), Date.valueOf(referenceMonth), total, count);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void apply(Transaction transaction, BigDecimal delta, long count) {
+        apply(transaction.getUser(), transaction.getCategory(), transaction.getType(),
+                transaction.getDate(), delta, count);
+    }
+
+    private record SummaryKey(Long userId, Long categoryId, Transaction.TransactionType type, LocalDate referenceMonth) {
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.financetrackhub.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "transactions.recurring", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RecurringTransactionScheduler {
+    
+    private final RecurringTransactionService recurringTransactionService;
+    
+    @Scheduled(fixedDelayString = "${transactions.recurring.interval:1m}")
+    public void materializeDue() {
+        String token = UUID.randomUUID().toString();
+        LocalDate today = LocalDate.now();
+        int chunks = 0;
+        int created = 0;
+        
+        try {
+            while (recurringTransactionService.claimDue(token, today) > 0) {
+                created += recurringTransactionService.materializeClaimed(token, today);
+                chunks++;
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao gerar transações recorrentes; os itens reservados serão reprocessados após a expiração da reserva", e);
+        }
+        
+        if (chunks > 0) {
+            log.info("{} transações recorrentes geradas em {} lotes", created, chunks);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.RecurringTransactionProperties;
+import br.com.financetrackhub.dto.RecurringTransactionRequest;
+import br.com.financetrackhub.dto.RecurringTransactionResponse;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.RecurringTransaction;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.exception.BadRequestException;
+import br.com.financetrackhub.repository.RecurringTransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class RecurringTransactionService {
+
+    private static final String ADVANCE_SQL =
+            "UPDATE recurring_transactions " +
+            "SET next_run_date = ?, occurrences = ?, claim_token = NULL, claimed_until = NULL, updated_at = ? " +
+            "WHERE id = ? AND claim_token = ?";
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final MonthlySummaryService monthlySummaryService;
+    private final UserDataVersionService userDataVersionService;
+    private final CategoryCache categoryCache;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final RecurringTransactionProperties recurringProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public RecurringTransactionService(RecurringTransactionRepository recurringTransactionRepository,
+                                       TransactionBatchWriter transactionBatchWriter,
+                                       MonthlySummaryService monthlySummaryService,
+                                       UserDataVersionService userDataVersionService,
+                                       CategoryCache categoryCache,
+                                       UserService userService,
+                                       JdbcTemplate jdbcTemplate,
+                                       RecurringTransactionProperties recurringProperties,
+                                       PlatformTransactionManager transactionManager) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.transactionBatchWriter = transactionBatchWriter;
+        this.monthlySummaryService = monthlySummaryService;
+        this.userDataVersionService = userDataVersionService;
+        this.categoryCache = categoryCache;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.recurringProperties = recurringProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringTransactionResponse> findAllByUser(Long userId) {
+        return recurringTransactionRepository.findByUserIdOrderByIdDesc(userId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public RecurringTransactionResponse create(RecurringTransactionRequest request, Long userId) {
+        Transaction.TransactionType transactionType;
+        try {
+            transactionType = Transaction.TransactionType.valueOf(request.getType().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Tipo de transação inválido. Use 'INCOME' ou 'EXPENSE'");
+        }
+
+        RecurringTransaction.Frequency frequency;
+        try {
+            frequency = RecurringTransaction.Frequency.valueOf(request.getFrequency().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Frequência inválida. Use 'DAILY', 'WEEKLY', 'MONTHLY' ou 'YEARLY'");
+        }
+
+        if (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BadRequestException("A data final deve ser posterior ou igual à data inicial");
+        }
+
+        Category category = categoryCache.findByIdAndUserId(request.getCategoryId(), userId)
+                .orElseThrow(() -> new BadRequestException("Categoria não encontrada ou não pertence ao usuário"));
+
+        RecurringTransaction recurring = new RecurringTransaction();
+        recurring.setType(transactionType);
+        recurring.setValue(request.getValue());
+        recurring.setDescription(request.getDescription());
+        recurring.setFrequency(frequency);
+        recurring.setStartDate(request.getStartDate());
+        recurring.setEndDate(request.getEndDate());
+        recurring.setNextRunDate(request.getStartDate());
+        recurring.setOccurrences(0L);
+        recurring.setCategory(category);
+        recurring.setUser(userService.getReference(userId));
+
+        recurring = recurringTransactionRepository.save(recurring);
+        return toResponse(recurring);
+    }
+
+    @Transactional
+    public void delete(Long id, Long userId) {
+        RecurringTransaction recurring = recurringTransactionRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new BadRequestException("Transação recorrente não encontrada"));
+        recurringTransactionRepository.delete(recurring);
+    }
+
+    @Transactional
+    public int claimDue(String token, LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = recurringTransactionRepository.findDueIds(
+                today, now, PageRequest.of(0, recurringProperties.getChunkSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return recurringTransactionRepository.claim(
+                ids, token, now.plus(recurringProperties.getClaimTimeout()), today, now);
+    }
+
+    public int materializeClaimed(String token, LocalDate today) {
+        try {
+            return transactionTemplate.execute(status ->
+                    materialize(recurringTransactionRepository.findClaimed(token), token, today));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gerar o lote de transações recorrentes; processando cada recorrência separadamente", e);
+        }
+
+        List<Long> ids = transactionTemplate.execute(status -> recurringTransactionRepository.findClaimedIds(token));
+        int created = 0;
+        for (Long id : ids) {
+            try {
+                created += transactionTemplate.execute(status ->
+                        materialize(recurringTransactionRepository.findClaimedById(id, token).stream().toList(), token, today));
+            } catch (RuntimeException e) {
+                log.error("Falha ao gerar transações da recorrência {}; nova tentativa após a expiração da reserva", id, e);
+                transactionTemplate.executeWithoutResult(status -> recurringTransactionRepository.park(id, token));
+            }
+        }
+        return created;
+    }
+
+    private int materialize(List<RecurringTransaction> claimed, String token, LocalDate today) {
+        List<Transaction> transactions = new ArrayList<>();
+        List<Object[]> advances = new ArrayList<>(claimed.size());
+        Set<Long> userIds = new LinkedHashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (RecurringTransaction recurring : claimed) {
+            long occurrences = recurring.getOccurrences();
+            LocalDate nextRun = recurring.getNextRunDate();
+            int generated = 0;
+
+            while (nextRun != null && !nextRun.isAfter(today) && generated < recurringProperties.getMaxOccurrencesPerRun()) {
+                if (recurring.getEndDate() != null && nextRun.isAfter(recurring.getEndDate())) {
+                    nextRun = null;
+                    break;
+                }
+                transactions.add(toTransaction(recurring, nextRun));
+                occurrences++;
+                generated++;
+                nextRun = recurring.getFrequency().occurrence(recurring.getStartDate(), occurrences);
+            }
+            if (nextRun != null && recurring.getEndDate() != null && nextRun.isAfter(recurring.getEndDate())) {
+                nextRun = null;
+            }
+
+            if (generated > 0) {
+                userIds.add(recurring.getUser().getId());
+            }
+            advances.add(new Object[]{nextRun == null ? null : Date.valueOf(nextRun), occurrences, now, recurring.getId(), token});
+        }
+
+        if (!transactions.isEmpty()) {
+            transactionBatchWriter.insertAll(transactions);
+            monthlySummaryService.addAll(transactions);
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(ADVANCE_SQL, advances,
+                new int[]{Types.DATE, Types.BIGINT, Types.TIMESTAMP, Types.BIGINT, Types.VARCHAR});
+        for (int count : updated) {
+            if (count == 0) {
+                throw new IllegalStateException("Reserva de transação recorrente expirou durante o processamento");
+            }
+        }
+
+        userIds.forEach(userDataVersionService::bump);
+        return transactions.size();
+    }
+
+    private Transaction toTransaction(RecurringTransaction recurring, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setType(recurring.getType());
+        transaction.setValue(recurring.getValue());
+        transaction.setDescription(recurring.getDescription());
+        transaction.setDate(date);
+        transaction.setCategory(recurring.getCategory());
+        transaction.setUser(recurring.getUser());
+        transaction.setRecurringId(recurring.getId());
+        return transaction;
+    }
+
+    private RecurringTransactionResponse toResponse(RecurringTransaction recurring) {
+        return new RecurringTransactionResponse(
+                recurring.getId(),
+                recurring.getType().name(),
+                recurring.getValue(),
+                recurring.getDescription(),
+                recurring.getCategory().getId(),
+                recurring.getFrequency().name(),
+                recurring.getStartDate(),
+                recurring.getEndDate(),
+                recurring.getNextRunDate(),
+                recurring.getOccurrences(),
+                recurring.getCreatedAt(),
+                recurring.getUpdatedAt()
+        );
+    }
+}
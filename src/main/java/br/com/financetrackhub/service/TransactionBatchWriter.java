@@ -0,0 +1,49 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.TransactionImportProperties;
+import br.com.financetrackhub.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (type, value, description, date, category_id, user_id, recurring_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionImportProperties importProperties;
+    
+    public int insertAll(List<Transaction> transactions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int batchSize = importProperties.getBatchSize();
+        int inserted = 0;
+        
+        for (int start = 0; start < transactions.size(); start += batchSize) {
+            List<Transaction> chunk = transactions.subList(start, Math.min(start + batchSize, transactions.size()));
+            jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, transaction) -> {
+                ps.setString(1, transaction.getType().name());
+                ps.setBigDecimal(2, transaction.getValue());
+                ps.setString(3, transaction.getDescription());
+                ps.setDate(4, Date.valueOf(transaction.getDate()));
+                ps.setLong(5, transaction.getCategory().getId());
+                ps.setLong(6, transaction.getUser().getId());
+                ps.setObject(7, transaction.getRecurringId(), Types.BIGINT);
+                ps.setTimestamp(8, now);
+                ps.setTimestamp(9, now);
+            });
+            inserted += chunk.size();
+        }
+        
+        return inserted;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.TransactionExportProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.concurrent.Callable;
+
+@Component
+public class TransactionExportExecutor {
+    
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+    
+    public TransactionExportExecutor(TransactionExportProperties exportProperties) {
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportProperties.getThreads());
+        executor.setMaxPoolSize(exportProperties.getThreads());
+        executor.setQueueCapacity(exportProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("transaction-export-");
+        executor.setDaemon(true);
+        executor.initialize();
+        this.timeoutMillis = exportProperties.getTimeout().toMillis();
+    }
+    
+    // Com a fila cheia o executor lança TaskRejectedException, respondida com 429
+    public <T> WebAsyncTask<T> task(Callable<T> callable) {
+        return new WebAsyncTask<>(timeoutMillis, executor, callable);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.TransactionExportProperties;
+import br.com.financetrackhub.dto.TransactionResponse;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.exception.BadRequestException;
+import br.com.financetrackhub.repository.TransactionRepository;
+import br.com.financetrackhub.repository.TransactionSpecifications;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+    
+    private final TransactionRepository transactionRepository;
+    private final TransactionService transactionService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionExportProperties exportProperties;
+    
+    public enum ExportFormat {
+        CSV,
+        NDJSON;
+        
+        public static ExportFormat parse(String format) {
+            try {
+                return ExportFormat.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Formato de exportação inválido. Use 'csv' ou 'ndjson'");
+            }
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void export(
+            Long userId,
+            ExportFormat format,
+            Transaction.TransactionType transactionType,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        
+        if (format == ExportFormat.CSV) {
+            writer.write("id,type,value,description,date,categoryId,categoryName\n");
+        }
+        
+        try (Stream<Transaction> transactions = transactionRepository.stream(
+                TransactionSpecifications.withFilters(userId, transactionType, categoryId, startDate, endDate)
+                        .and(TransactionSpecifications.newestFirst(transactionType, categoryId)),
+                exportProperties.getFetchSize())) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, transaction);
+                } else {
+                    jsonWriter.writeValue(writer, transactionService.toResponse(transaction));
+                    writer.write('\n');
+                }
+                entityManager.detach(transaction);
+            }
+        }
+        
+        writer.flush();
+    }
+    
+    private void writeCsvLine(Writer writer, Transaction transaction) throws IOException {
+        writer.write(transaction.getId().toString());
+        writer.write(',');
+        writer.write(transaction.getType().name());
+        writer.write(',');
+        writer.write(transaction.getValue().toPlainString());
+        writer.write(',');
+        writer.write(escapeCsv(transaction.getDescription()));
+        writer.write(',');
+        writer.write(transaction.getDate().toString());
+        writer.write(',');
+        writer.write(transaction.getCategory().getId().toString());
+        writer.write(',');
+        writer.write(escapeCsv(transaction.getCategory().getName()));
+        writer.write('\n');
+    }
+    
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+    
+}
@@ -0,0 +1,61 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public enum TransactionField {
+    ID("id", Transaction::getId),
+    TYPE("type", transaction -> transaction.getType().name()),
+    VALUE("value", Transaction::getValue),
+    DESCRIPTION("description", Transaction::getDescription),
+    DATE("date", Transaction::getDate),
+    CATEGORY_ID("categoryId", transaction -> transaction.getCategory().getId()),
+    CREATED_AT("createdAt", Transaction::getCreatedAt),
+    UPDATED_AT("updatedAt", Transaction::getUpdatedAt);
+
+    public static final List<TransactionField> COMPACT_DEFAULT = List.of(ID, TYPE, VALUE, DESCRIPTION, DATE, CATEGORY_ID);
+
+    private final String key;
+    private final Function<Transaction, Object> extractor;
+
+    TransactionField(String key, Function<Transaction, Object> extractor) {
+        this.key = key;
+        this.extractor = extractor;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Object extract(Transaction transaction) {
+        return extractor.apply(transaction);
+    }
+
+    public static List<TransactionField> parseList(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return COMPACT_DEFAULT;
+        }
+
+        List<TransactionField> selected = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            TransactionField field = Arrays.stream(values())
+                    .filter(candidate -> candidate.key.equalsIgnoreCase(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(
+                            "Campo inválido: " + name.trim() + ". Use: " + String.join(", ", keys())));
+            if (!selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
+    }
+
+    private static List<String> keys() {
+        return Arrays.stream(values()).map(TransactionField::key).toList();
+    }
+}
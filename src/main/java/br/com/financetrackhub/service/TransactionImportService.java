@@ -0,0 +1,211 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.TransactionImportProperties;
+import br.com.financetrackhub.dto.ImportResponse;
+import br.com.financetrackhub.dto.TransactionRequest;
+import br.com.financetrackhub.entity.AuditLog;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+    
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final List<String> CSV_HEADER = List.of("type", "value", "description", "date", "categoryid");
+    
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final CategoryCache categoryCache;
+    private final UserService userService;
+    private final MonthlySummaryService monthlySummaryService;
+    private final UserDataVersionService userDataVersionService;
+    private final TransactionImportProperties importProperties;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public ImportResponse importTransactions(List<TransactionRequest> requests, Long userId) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Nenhuma transação informada para importação");
+        }
+        if (requests.size() > importProperties.getMaxRows()) {
+            throw new BadRequestException("A importação aceita no máximo " + importProperties.getMaxRows() + " transações");
+        }
+        
+        User user = userService.getReference(userId);
+        
+        Set<Long> categoryIds = new HashSet<>();
+        for (TransactionRequest request : requests) {
+            if (request.getCategoryId() != null) {
+                categoryIds.add(request.getCategoryId());
+            }
+        }
+        Map<Long, Category> categories = categoryCache.findByUserIdAndIdIn(userId, categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        
+        List<String> errors = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        
+        for (int i = 0; i < requests.size(); i++) {
+            TransactionRequest request = requests.get(i);
+            int line = i + 1;
+            
+            Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                violations.stream()
+                        .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                        .forEach(v -> errors.add("Linha " + line + ": " + v.getMessage()));
+                continue;
+            }
+            
+            Transaction.TransactionType transactionType;
+            try {
+                transactionType = Transaction.TransactionType.valueOf(request.getType().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                errors.add("Linha " + line + ": Tipo de transação inválido. Use 'INCOME' ou 'EXPENSE'");
+                continue;
+            }
+            
+            Category category = categories.get(request.getCategoryId());
+            if (category == null) {
+                errors.add("Linha " + line + ": Categoria não encontrada ou não pertence ao usuário");
+                continue;
+            }
+            
+            Transaction transaction = new Transaction();
+            transaction.setType(transactionType);
+            transaction.setValue(request.getValue());
+            transaction.setDescription(request.getDescription());
+            transaction.setDate(request.getDate());
+            transaction.setCategory(category);
+            transaction.setUser(user);
+            transactions.add(transaction);
+        }
+        
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(formatErrors(errors));
+        }
+        
+        int imported = transactionBatchWriter.insertAll(transactions);
+        monthlySummaryService.addAll(transactions);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.TRANSACTION, null,
+                AuditLog.Action.IMPORT, null, Map.of("imported", imported)));
+        
+        return new ImportResponse(imported);
+    }
+    
+    @Transactional
+    public ImportResponse importCsv(String csv, Long userId) {
+        return importTransactions(parseCsv(csv), userId);
+    }
+    
+    private List<TransactionRequest> parseCsv(String csv) {
+        if (csv == null || csv.isBlank()) {
+            throw new BadRequestException("Nenhuma transação informada para importação");
+        }
+        
+        List<TransactionRequest> requests = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        String[] lines = csv.split("\r?\n");
+        int firstDataLine = 0;
+        
+        List<String> header = splitCsvLine(lines[0]).stream()
+                .map(column -> column.trim().toLowerCase())
+                .collect(Collectors.toList());
+        if (header.equals(CSV_HEADER)) {
+            firstDataLine = 1;
+        }
+        
+        for (int i = firstDataLine; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            int line = requests.size() + errors.size() + 1;
+            List<String> columns = splitCsvLine(lines[i]);
+            
+            if (columns.size() != CSV_HEADER.size()) {
+                errors.add("Linha " + line + ": esperadas " + CSV_HEADER.size() + " colunas (" + String.join(",", CSV_HEADER) + ")");
+                continue;
+            }
+            
+            try {
+                requests.add(new TransactionRequest(
+                        columns.get(0).trim(),
+                        columns.get(1).isBlank() ? null : new BigDecimal(columns.get(1).trim()),
+                        columns.get(2).isEmpty() ? null : columns.get(2),
+                        columns.get(3).isBlank() ? null : LocalDate.parse(columns.get(3).trim()),
+                        columns.get(4).isBlank() ? null : Long.valueOf(columns.get(4).trim())
+                ));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                errors.add("Linha " + line + ": valor, data ou categoria em formato inválido");
+            }
+        }
+        
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(formatErrors(errors));
+        }
+        
+        return requests;
+    }
+    
+    private List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        
+        return columns;
+    }
+    
+    private String formatErrors(List<String> errors) {
+        String message = errors.stream()
+                .limit(MAX_REPORTED_ERRORS)
+                .collect(Collectors.joining("; "));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            message += "; e mais " + (errors.size() - MAX_REPORTED_ERRORS) + " erros";
+        }
+        return message;
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.exception.BadRequestException;
+import br.com.financetrackhub.repository.TransactionSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionSearch {
+
+    private static final String FULL_TEXT_INDEX = "ft_transactions_description";
+    private static final int MAX_SEARCH_LENGTH = 100;
+    private static final int MAX_TERMS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean fullText;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectFullTextIndex() {
+        String databaseProduct = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(databaseProduct)) {
+            log.info("Busca textual usando LIKE: {} não suporta índice FULLTEXT", databaseProduct);
+            return;
+        }
+
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'transactions' AND index_name = ?",
+                    Integer.class, FULL_TEXT_INDEX);
+            fullText = existing != null && existing > 0;
+            if (!fullText) {
+                log.warn("Índice FULLTEXT {} não encontrado; a busca textual usará LIKE até que " +
+                        "db/mysql/{}.sql seja aplicado", FULL_TEXT_INDEX, FULL_TEXT_INDEX);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível verificar o índice FULLTEXT; a busca textual usará LIKE", e);
+        }
+    }
+
+    public Specification<Transaction> matching(String search) {
+        List<String> terms = parseTerms(search);
+        if (fullText) {
+            return TransactionSpecifications.matchesFullText(terms.stream()
+                    .map(term -> "+" + term + "*")
+                    .collect(Collectors.joining(" ")));
+        }
+        return TransactionSpecifications.descriptionContainsAll(terms);
+    }
+
+    private List<String> parseTerms(String search) {
+        if (search.length() > MAX_SEARCH_LENGTH) {
+            throw new BadRequestException("A busca deve ter no máximo " + MAX_SEARCH_LENGTH + " caracteres");
+        }
+
+        List<String> terms = Arrays.stream(search.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            throw new BadRequestException("Informe ao menos uma palavra para a busca");
+        }
+        return terms;
+    }
+}
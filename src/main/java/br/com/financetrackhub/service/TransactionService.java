@@ -1,27 +1,37 @@
 package br.com.financetrackhub.service;
 
+import br.com.financetrackhub.aggregation.Money;
+import br.com.financetrackhub.dto.CompactPageResponse;
+import br.com.financetrackhub.dto.CursorPageResponse;
 import br.com.financetrackhub.dto.DashboardResponse;
 import br.com.financetrackhub.dto.PageResponse;
 import br.com.financetrackhub.dto.TransactionRequest;
 import br.com.financetrackhub.dto.TransactionResponse;
+import br.com.financetrackhub.entity.AuditLog;
 import br.com.financetrackhub.entity.Category;
 import br.com.financetrackhub.entity.Transaction;
-import br.com.financetrackhub.entity.User;
 import br.com.financetrackhub.exception.BadRequestException;
-import br.com.financetrackhub.repository.CategoryRepository;
 import br.com.financetrackhub.repository.TransactionRepository;
+import br.com.financetrackhub.repository.TransactionSpecifications;
+import br.com.financetrackhub.repository.projection.CategoryTotal;
+import br.com.financetrackhub.repository.projection.DailyTotal;
+import br.com.financetrackhub.repository.projection.TypeTotal;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,70 +40,161 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final TransactionRepository transactionRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final UserService userService;
+    private final MonthlySummaryService monthlySummaryService;
+    private final UserDataVersionService userDataVersionService;
+    private final TransactionSearch transactionSearch;
+    private final DashboardAggregator dashboardAggregator;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional(readOnly = true)
     public PageResponse<TransactionResponse> findAllByUserPaginated(
-            String userEmail, 
+            Long userId, 
             int page, 
             int size,
             String type,
             Long categoryId,
             LocalDate startDate,
-            LocalDate endDate) {
-        User user = userService.findByEmail(userEmail);
-        Pageable pageable = PageRequest.of(page, size);
+            LocalDate endDate,
+            String search) {
+        Page<Transaction> transactionPage = findPage(userId, page, size, type, categoryId, startDate, endDate, search);
         
-        Transaction.TransactionType transactionType = null;
-        if (type != null && !type.isEmpty() && !type.equalsIgnoreCase("todos")) {
-            try {
-                transactionType = Transaction.TransactionType.valueOf(type.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new BadRequestException("Tipo de transação inválido: " + type);
+        return new PageResponse<>(
+                transactionPage.getContent().stream()
+                        .map(this::toResponse)
+                        .collect(Collectors.toList()),
+                transactionPage.getNumber(),
+                transactionPage.getSize(),
+                transactionPage.getTotalElements(),
+                transactionPage.getTotalPages(),
+                transactionPage.isFirst(),
+                transactionPage.isLast()
+        );
+    }
+    
+    @Transactional(readOnly = true)
+    public CompactPageResponse findAllByUserPaginatedCompact(
+            Long userId,
+            int page,
+            int size,
+            String type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String search,
+            String fields) {
+        List<TransactionField> selectedFields = TransactionField.parseList(fields);
+        Page<Transaction> transactionPage = findPage(userId, page, size, type, categoryId, startDate, endDate, search);
+        return toCompactResponse(transactionPage, selectedFields);
+    }
+    
+    CompactPageResponse toCompactResponse(Page<Transaction> transactionPage, List<TransactionField> fields) {
+        Map<Long, String> categories = new LinkedHashMap<>();
+        List<List<Object>> rows = new ArrayList<>(transactionPage.getNumberOfElements());
+        boolean withCategories = fields.contains(TransactionField.CATEGORY_ID);
+        
+        for (Transaction transaction : transactionPage.getContent()) {
+            List<Object> row = new ArrayList<>(fields.size());
+            for (TransactionField field : fields) {
+                row.add(field.extract(transaction));
+            }
+            rows.add(row);
+            if (withCategories) {
+                categories.putIfAbsent(transaction.getCategory().getId(), transaction.getCategory().getName());
             }
         }
         
-        Page<Transaction> transactionPage;
+        return new CompactPageResponse(
+                fields.stream().map(TransactionField::key).toList(),
+                withCategories ? categories : null,
+                rows,
+                transactionPage.getNumber(),
+                transactionPage.getSize(),
+                transactionPage.getTotalElements(),
+                transactionPage.getTotalPages(),
+                transactionPage.isFirst(),
+                transactionPage.isLast()
+        );
+    }
+    
+    private Page<Transaction> findPage(
+            Long userId,
+            int page,
+            int size,
+            String type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String search) {
+        validatePage(page, size);
+        Transaction.TransactionType transactionType = parseTypeFilter(type);
+        Specification<Transaction> specification =
+                TransactionSpecifications.withFilters(userId, transactionType, categoryId, startDate, endDate);
         
-        if (transactionType == null && categoryId == null && startDate == null && endDate == null) {
-            transactionPage = transactionRepository.findByUserOrderByIdDesc(user, pageable);
+        if (search == null || search.isBlank()) {
+            specification = specification.and(TransactionSpecifications.newestFirst(transactionType, categoryId));
         } else {
-            transactionPage = transactionRepository.findByUserWithFilters(
-                    user, transactionType, categoryId, startDate, endDate, pageable);
+            specification = specification.and(transactionSearch.matching(search));
         }
         
+        Page<Transaction> transactionPage = transactionRepository.findAll(specification, PageRequest.of(page, size));
+        
         transactionPage.getContent().forEach(t -> {
             Hibernate.initialize(t.getCategory());
         });
         
-        return new PageResponse<>(
-                transactionPage.getContent().stream()
+        return transactionPage;
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> findAllByUserAfterCursor(
+            Long userId,
+            String after,
+            int size,
+            String type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate) {
+        validatePage(0, size);
+        Transaction.TransactionType transactionType = parseTypeFilter(type);
+        Specification<Transaction> specification =
+                TransactionSpecifications.withFilters(userId, transactionType, categoryId, startDate, endDate)
+                        .and(TransactionSpecifications.newestFirst(transactionType, categoryId));
+        if (after != null && !after.isEmpty()) {
+            specification = specification.and(decodeCursor(after));
+        }
+        
+        Slice<Transaction> transactionSlice = transactionRepository.findSlice(specification, size);
+        
+        List<Transaction> content = transactionSlice.getContent();
+        String nextCursor = transactionSlice.hasNext()
+                ? encodeCursor(content.get(content.size() - 1))
+                : null;
+        
+        return new CursorPageResponse<>(
+                content.stream()
                         .map(this::toResponse)
                         .collect(Collectors.toList()),
-                transactionPage.getNumber(),
-                transactionPage.getSize(),
-                transactionPage.getTotalElements(),
-                transactionPage.getTotalPages(),
-                transactionPage.isFirst(),
-                transactionPage.isLast()
+                transactionSlice.getSize(),
+                nextCursor,
+                transactionSlice.hasNext()
         );
     }
     
     @Transactional(readOnly = true)
-    public TransactionResponse findById(Long id, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Transaction transaction = transactionRepository.findByIdAndUser(id, user)
+    public TransactionResponse findById(Long id, Long userId) {
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Transação não encontrada"));
         Hibernate.initialize(transaction.getCategory());
         return toResponse(transaction);
     }
     
     @Transactional
-    public TransactionResponse create(TransactionRequest request, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        
+    public TransactionResponse create(TransactionRequest request, Long userId) {
         Transaction.TransactionType transactionType;
         try {
             transactionType = Transaction.TransactionType.valueOf(request.getType().toUpperCase());
@@ -101,7 +202,7 @@ public class TransactionService {
             throw new BadRequestException("Tipo de transação inválido. Use 'INCOME' ou 'EXPENSE'");
         }
         
-        Category category = categoryRepository.findByIdAndUser(request.getCategoryId(), user)
+        Category category = categoryCache.findByIdAndUserId(request.getCategoryId(), userId)
                 .orElseThrow(() -> new BadRequestException("Categoria não encontrada ou não pertence ao usuário"));
         
         Transaction transaction = new Transaction();
@@ -110,16 +211,19 @@ public class TransactionService {
         transaction.setDescription(request.getDescription());
         transaction.setDate(request.getDate());
         transaction.setCategory(category);
-        transaction.setUser(user);
+        transaction.setUser(userService.getReference(userId));
         
         transaction = transactionRepository.save(transaction);
+        monthlySummaryService.add(transaction);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.TRANSACTION, transaction.getId(),
+                AuditLog.Action.CREATE, null, AuditEvent.snapshot(transaction)));
         return toResponse(transaction);
     }
     
     @Transactional
-    public TransactionResponse update(Long id, TransactionRequest request, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Transaction transaction = transactionRepository.findByIdAndUser(id, user)
+    public TransactionResponse update(Long id, TransactionRequest request, Long userId) {
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Transação não encontrada"));
         
         Transaction.TransactionType transactionType;
@@ -129,9 +233,12 @@ public class TransactionService {
             throw new BadRequestException("Tipo de transação inválido. Use 'INCOME' ou 'EXPENSE'");
         }
         
-        Category category = categoryRepository.findByIdAndUser(request.getCategoryId(), user)
+        Category category = categoryCache.findByIdAndUserId(request.getCategoryId(), userId)
                 .orElseThrow(() -> new BadRequestException("Categoria não encontrada ou não pertence ao usuário"));
         
+        Map<String, Object> before = AuditEvent.snapshot(transaction);
+        monthlySummaryService.remove(transaction);
+        
         transaction.setType(transactionType);
         transaction.setValue(request.getValue());
         transaction.setDescription(request.getDescription());
@@ -139,115 +246,128 @@ public class TransactionService {
         transaction.setCategory(category);
         
         transaction = transactionRepository.save(transaction);
+        monthlySummaryService.add(transaction);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.TRANSACTION, transaction.getId(),
+                AuditLog.Action.UPDATE, before, AuditEvent.snapshot(transaction)));
         return toResponse(transaction);
     }
     
     @Transactional
-    public void delete(Long id, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Transaction transaction = transactionRepository.findByIdAndUser(id, user)
+    public void delete(Long id, Long userId) {
+        Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new BadRequestException("Transação não encontrada"));
+        monthlySummaryService.remove(transaction);
         transactionRepository.delete(transaction);
+        userDataVersionService.bump(userId);
+        eventPublisher.publishEvent(AuditEvent.of(userId, AuditLog.EntityType.TRANSACTION, id,
+                AuditLog.Action.DELETE, AuditEvent.snapshot(transaction), null));
     }
     
     @Transactional(readOnly = true)
-    public DashboardResponse getDashboardData(String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        List<Transaction> transactions = transactionRepository.findByUserOrderByDateAsc(user);
-        
-        transactions.forEach(t -> Hibernate.initialize(t.getCategory()));
-        
-        BigDecimal income = transactions.stream()
-                .filter(t -> t.getType() == Transaction.TransactionType.INCOME)
-                .map(Transaction::getValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal expenses = transactions.stream()
-                .filter(t -> t.getType() == Transaction.TransactionType.EXPENSE)
-                .map(Transaction::getValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal balance = income.subtract(expenses);
-        
-        DashboardResponse.Summary summary = new DashboardResponse.Summary(income, expenses, balance);
-        
-        Map<String, BigDecimal> expensesByCategory = transactions.stream()
-                .filter(t -> t.getType() == Transaction.TransactionType.EXPENSE)
-                .collect(Collectors.groupingBy(
-                        t -> t.getCategory().getName(),
-                        Collectors.reducing(BigDecimal.ZERO, Transaction::getValue, BigDecimal::add)
-                ));
-        
-        List<DashboardResponse.CategoryData> categoryData = expensesByCategory.entrySet().stream()
-                .map(entry -> new DashboardResponse.CategoryData(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
-        
+    public DashboardResponse getDashboardData(Long userId) {
         LocalDate now = LocalDate.now();
         LocalDate firstDayOfMonth = now.withDayOfMonth(1);
         LocalDate lastDayOfMonth = now.withDayOfMonth(now.lengthOfMonth());
         
-        BigDecimal initialBalance = transactions.stream()
-                .filter(t -> t.getDate().isBefore(firstDayOfMonth))
-                .map(t -> t.getType() == Transaction.TransactionType.INCOME 
-                        ? t.getValue() 
-                        : t.getValue().negate())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        DashboardAggregation aggregation = dashboardAggregator.start(
+                firstDayOfMonth, lastDayOfMonth, DashboardQuery.Granularity.DAY);
+        addTotals(aggregation,
+                monthlySummaryService.sumByType(userId),
+                monthlySummaryService.sumByCategory(userId, Transaction.TransactionType.EXPENSE));
         
-        List<Transaction> currentMonthTransactions = transactions.stream()
-                .filter(t -> !t.getDate().isBefore(firstDayOfMonth) && !t.getDate().isAfter(lastDayOfMonth))
-                .collect(Collectors.toList());
+        List<DailyTotal> dailyTotals = transactionRepository.sumNetByDateBetween(
+                userId, firstDayOfMonth, lastDayOfMonth, Transaction.TransactionType.INCOME);
+        if (!dailyTotals.isEmpty()) {
+            aggregation.addOpeningBalance(Money.toCents(monthlySummaryService.sumNetBefore(userId, firstDayOfMonth)));
+            addDailyTotals(aggregation, dailyTotals);
+        }
         
-        if (currentMonthTransactions.isEmpty()) {
-            return new DashboardResponse(summary, categoryData, new ArrayList<>());
+        return aggregation.toResponseUntilLastActivity(now);
+    }
+    
+    @Transactional(readOnly = true)
+    public DashboardResponse getDashboardData(Long userId, DashboardQuery query) {
+        if (query.isDefault()) {
+            return getDashboardData(userId);
         }
         
-        LocalDate lastTransactionDate = currentMonthTransactions.stream()
-                .map(Transaction::getDate)
-                .max(LocalDate::compareTo)
-                .orElse(firstDayOfMonth);
+        LocalDate startDate = query.startDate();
+        LocalDate endDate = query.endDate();
         
-        LocalDate endDate = lastTransactionDate;
-        if (endDate.isAfter(now)) {
-            endDate = now;
-        }
+        DashboardAggregation aggregation = dashboardAggregator.start(startDate, endDate, query.granularity());
+        addTotals(aggregation,
+                transactionRepository.sumByTypeBetween(userId, startDate, endDate),
+                transactionRepository.sumByCategoryBetween(userId, Transaction.TransactionType.EXPENSE, startDate, endDate));
         
-        Map<LocalDate, BigDecimal> transactionsByDate = currentMonthTransactions.stream()
-                .collect(Collectors.groupingBy(
-                        Transaction::getDate,
-                        Collectors.reducing(
-                                BigDecimal.ZERO,
-                                t -> t.getType() == Transaction.TransactionType.INCOME 
-                                        ? t.getValue() 
-                                        : t.getValue().negate(),
-                                BigDecimal::add
-                        )
-                ));
+        LocalDate firstDayOfMonth = startDate.withDayOfMonth(1);
+        aggregation.addOpeningBalance(Money.toCents(monthlySummaryService.sumNetBefore(userId, firstDayOfMonth)));
+        if (startDate.isAfter(firstDayOfMonth)) {
+            aggregation.addOpeningBalance(Money.toCents(transactionRepository.sumNetBetween(
+                    userId, firstDayOfMonth, startDate.minusDays(1), Transaction.TransactionType.INCOME)));
+        }
         
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM");
-        List<DashboardResponse.MonthlyData> monthlyData = new ArrayList<>();
-        BigDecimal runningBalance = initialBalance;
+        addDailyTotals(aggregation, transactionRepository.sumNetByDateBetween(
+                userId, startDate, endDate, Transaction.TransactionType.INCOME));
         
-        LocalDate currentDate = firstDayOfMonth;
-        while (currentDate.isBefore(endDate) || currentDate.isEqual(endDate)) {
-            BigDecimal dayValue = transactionsByDate.getOrDefault(currentDate, BigDecimal.ZERO);
-            runningBalance = runningBalance.add(dayValue);
-            
-            monthlyData.add(new DashboardResponse.MonthlyData(
-                    currentDate.format(formatter),
-                    runningBalance
-            ));
-            
-            currentDate = currentDate.plusDays(1);
-            
-            if (currentDate.isAfter(endDate)) {
-                break;
+        return aggregation.toResponse();
+    }
+    
+    private void addTotals(DashboardAggregation aggregation, List<TypeTotal> typeTotals, List<CategoryTotal> categoryTotals) {
+        for (TypeTotal typeTotal : typeTotals) {
+            aggregation.addTypeTotal(typeTotal.getType(), Money.toCents(typeTotal.getTotal()));
+        }
+        for (CategoryTotal categoryTotal : categoryTotals) {
+            aggregation.addCategoryExpense(
+                    categoryTotal.getCategoryId(), categoryTotal.getName(), Money.toCents(categoryTotal.getTotal()));
+        }
+    }
+    
+    private void addDailyTotals(DashboardAggregation aggregation, List<DailyTotal> dailyTotals) {
+        for (DailyTotal dailyTotal : dailyTotals) {
+            aggregation.addNet(dailyTotal.getDate(), Money.toCents(dailyTotal.getTotal()));
+        }
+    }
+    
+    public static Transaction.TransactionType parseTypeFilter(String type) {
+        if (type == null || type.isEmpty() || type.equalsIgnoreCase("todos")) {
+            return null;
+        }
+        try {
+            return Transaction.TransactionType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Tipo de transação inválido: " + type);
+        }
+    }
+    
+    private String encodeCursor(Transaction last) {
+        String cursor = last.getDate() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("A página deve ser maior ou igual a zero");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+    }
+    
+    private Specification<Transaction> decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("Cursor de paginação inválido");
             }
+            return TransactionSpecifications.before(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor de paginação inválido");
         }
-        
-        return new DashboardResponse(summary, categoryData, monthlyData);
     }
     
-    private TransactionResponse toResponse(Transaction transaction) {
+    TransactionResponse toResponse(Transaction transaction) {
         Category category = transaction.getCategory();
         return new TransactionResponse(
                 transaction.getId(),
@@ -0,0 +1,4 @@
+package br.com.financetrackhub.service;
+
+public record UserDataChangedEvent(Long userId) {
+}
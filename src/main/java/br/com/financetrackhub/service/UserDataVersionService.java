@@ -0,0 +1,62 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.UserDataVersion;
+import br.com.financetrackhub.repository.UserDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class UserDataVersionService {
+    
+    private static final String INSERT_SQL = "INSERT INTO user_data_versions (user_id, version) VALUES (?, 1)";
+    
+    private final UserDataVersionRepository userDataVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Transactional
+    public void bump(Long userId) {
+        if (userDataVersionRepository.increment(userId) == 0 && !insertIfAbsent(userId)) {
+            userDataVersionRepository.increment(userId);
+        }
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+    }
+    
+    @Transactional(readOnly = true)
+    public long currentVersion(Long userId) {
+        return userDataVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+    
+    @Transactional(readOnly = true)
+    public Map<Long, Long> currentVersions(Collection<Long> userIds) {
+        return userDataVersionRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserDataVersion::getUserId, UserDataVersion::getVersion));
+    }
+    
+    public String etag(Long userId, Object... parts) {
+        return etagFor(currentVersion(userId), parts);
+    }
+    
+    public static String etagFor(long version, Object... parts) {
+        return "W/\"" + version + "-" + Integer.toHexString(Arrays.hashCode(parts)) + "\"";
+    }
+    
+    private boolean insertIfAbsent(Long userId) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.CacheProperties;
+import br.com.financetrackhub.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class UserPrincipalCache {
+    
+    private final Cache<String, User> cache;
+    
+    public UserPrincipalCache(CacheProperties cacheProperties) {
+        CacheProperties.Spec spec = cacheProperties.getPrincipal();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .build();
+    }
+    
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        return Optional.ofNullable(cache.get(email, key -> loader.apply(key).orElse(null)));
+    }
+    
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
@@ -13,30 +13,29 @@ import org.springframework.stereotype.Service;
 public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + email));
-        
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities("ROLE_USER")
-                .build();
+        return AuthenticatedUser.of(findByEmail(email));
     }
     
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userPrincipalCache.get(email, userRepository::findByEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + email));
     }
     
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+    
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
     
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userPrincipalCache.evict(saved.getEmail());
+        return saved;
     }
 }
-
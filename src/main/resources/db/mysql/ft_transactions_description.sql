@@ -0,0 +1,7 @@
+-- Índice FULLTEXT usado pela busca textual de transações (GET /api/transactions?search=...).
+-- Execute uma vez por banco, fora da inicialização da API. No InnoDB, a criação é feita
+-- online (sem bloquear escritas), mas reconstrói a tabela na primeira vez e pode levar
+-- bastante tempo em tabelas grandes.
+ALTER TABLE transactions
+    ADD FULLTEXT INDEX ft_transactions_description (description),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,33 @@
+package br.com.financetrackhub;
+
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.CategoryRepository;
+import br.com.financetrackhub.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+
+    public User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name.toLowerCase().replace(' ', '-') + "-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+
+    public Category category(User user, String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(user);
+        return categoryRepository.save(category);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.financetrackhub.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void convertsExactlyToAndFromCents() {
+        assertThat(Money.toCents(new BigDecimal("0.10"))).isEqualTo(10L);
+        assertThat(Money.toCents(new BigDecimal("12.3"))).isEqualTo(1230L);
+        assertThat(Money.toCents(new BigDecimal("-99999999.99"))).isEqualTo(-9_999_999_999L);
+        assertThat(Money.toCents(null)).isZero();
+
+        assertThat(Money.toBigDecimal(1230L)).isEqualTo(new BigDecimal("12.30"));
+        assertThat(Money.toBigDecimal(-5L)).isEqualTo(new BigDecimal("-0.05"));
+    }
+
+    @Test
+    void sumsInCentsWithoutFloatingPointDrift() {
+        long total = 0;
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            total = Money.add(total, Money.toCents(new BigDecimal("0.10")));
+            expected = expected.add(new BigDecimal("0.10"));
+        }
+
+        assertThat(Money.toBigDecimal(total)).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsFractionsOfACentAndOverflow() {
+        assertThatThrownBy(() -> Money.toCents(new BigDecimal("1.005")))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessageContaining("1.005");
+        assertThatThrownBy(() -> Money.add(Long.MAX_VALUE, 1L))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void runningTotalsStartFromTheOpeningBalance() {
+        CentsBuckets buckets = new CentsBuckets(3);
+        buckets.add(0, 1000L);
+        buckets.add(2, -250L);
+        buckets.add(2, 5L);
+
+        assertThat(buckets.runningTotals(-100L)).containsExactly(900L, 900L, 655L);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.financetrackhub.config;
+
+import br.com.financetrackhub.service.AuthenticatedUser;
+import br.com.financetrackhub.service.UserDataChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.lag-check-interval=1h",
+        "datasource.replica.hikari.connection-timeout=250",
+        "transactions.recurring.enabled=false"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;NON_KEYWORDS=VALUE";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1";
+
+    private static Connection replicaAdmin;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void createReplica() throws Exception {
+        replicaAdmin = DriverManager.getConnection(REPLICA_URL, "sa", "");
+        replicaAdmin.createStatement().execute(
+                "CREATE TABLE IF NOT EXISTS replica_heartbeats (id INT PRIMARY KEY, beat_at TIMESTAMP)");
+    }
+
+    @AfterAll
+    static void dropReplica() throws Exception {
+        replicaAdmin.createStatement().execute("SHUTDOWN");
+    }
+
+    @BeforeEach
+    void replicaUpToDate() throws Exception {
+        heartbeat(Duration.ZERO);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsHitTheReplica() {
+        double replicaReads = routed("replica");
+
+        assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+        assertThat(routed("replica")).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    void writesHitThePrimary() {
+        assertThat(database(false)).isEqualTo("ROUTING_PRIMARY");
+    }
+
+    @Test
+    void recentWritersReadFromThePrimary() {
+        authenticate(1001L);
+        eventPublisher.publishEvent(new UserDataChangedEvent(1001L));
+        assertThat(database(true)).isEqualTo("ROUTING_PRIMARY");
+
+        authenticate(1002L);
+        assertThat(database(true)).isEqualTo("ROUTING_REPLICA");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() throws Exception {
+        heartbeat(Duration.ofMinutes(1));
+        double primaryReads = routed("primary");
+
+        assertThat(database(true)).isEqualTo("ROUTING_PRIMARY");
+        assertThat(routed("primary")).isEqualTo(primaryReads + 1);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() throws Exception {
+        double fallbacks = meterRegistry.get("datasource.routing.fallback").counter().count();
+        replicaAdmin.createStatement().execute("ALTER USER SA SET PASSWORD 'rotated'");
+        replicaDataSource.getHikariPoolMXBean().softEvictConnections();
+        try {
+            assertThat(database(true)).isEqualTo("ROUTING_PRIMARY");
+            assertThat(meterRegistry.get("datasource.routing.fallback").counter().count()).isEqualTo(fallbacks + 1);
+            assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        } finally {
+            replicaAdmin.createStatement().execute("ALTER USER SA SET PASSWORD ''");
+            awaitReplica();
+        }
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private void heartbeat(Duration age) throws Exception {
+        try (PreparedStatement statement = replicaAdmin.prepareStatement(
+                "MERGE INTO replica_heartbeats (id, beat_at) KEY (id) VALUES (1, ?)")) {
+            statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minus(age)));
+            statement.executeUpdate();
+        }
+        replicaLagMonitor.check();
+    }
+
+    // O pool da réplica leva alguns ciclos para repor as conexões descartadas com a senha trocada
+    private void awaitReplica() throws Exception {
+        for (int attempt = 0; attempt < 50 && !replicaLagMonitor.isAvailable(); attempt++) {
+            Thread.sleep(100);
+            heartbeat(Duration.ZERO);
+        }
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("datasource.routing").tag("target", target).counter().count();
+    }
+
+    private void authenticate(Long userId) {
+        AuthenticatedUser user = AuthenticatedUser.fromToken(userId, "routing-" + userId + "@test.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
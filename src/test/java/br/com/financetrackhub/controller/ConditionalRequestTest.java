@@ -0,0 +1,98 @@
+package br.com.financetrackhub.controller;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "transactions.recurring.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private Category category;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User user = testFixtures.user("Etag User");
+        category = testFixtures.category(user, "Mercado");
+        token = jwtService.generateToken(user);
+    }
+
+    @Test
+    void unchangedDashboardAnswersNotModified() throws Exception {
+        String etag = etag(authorized(get("/api/dashboard")));
+
+        mockMvc.perform(authorized(get("/api/dashboard")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void writeChangesTheEtagOfDashboardAndListings() throws Exception {
+        String dashboard = etag(authorized(get("/api/dashboard")));
+        String transactions = etag(authorized(get("/api/transactions")));
+        String categories = etag(authorized(get("/api/categories")));
+
+        mockMvc.perform(authorized(post("/api/transactions"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\":\"EXPENSE\",\"value\":10.50,\"description\":\"Feira\",\"date\":\"2024-03-10\","
+                                + "\"categoryId\":" + category.getId() + "}"))
+                .andExpect(status().isCreated());
+
+        assertThat(etag(authorized(get("/api/dashboard")).header(HttpHeaders.IF_NONE_MATCH, dashboard))).isNotEqualTo(dashboard);
+        assertThat(etag(authorized(get("/api/transactions")).header(HttpHeaders.IF_NONE_MATCH, transactions))).isNotEqualTo(transactions);
+        assertThat(etag(authorized(get("/api/categories")).header(HttpHeaders.IF_NONE_MATCH, categories))).isNotEqualTo(categories);
+    }
+
+    @Test
+    void etagDependsOnTheQuery() throws Exception {
+        String firstPage = etag(authorized(get("/api/transactions").param("page", "0")));
+        String dashboard = etag(authorized(get("/api/dashboard")));
+
+        mockMvc.perform(authorized(get("/api/transactions").param("page", "1")).header(HttpHeaders.IF_NONE_MATCH, firstPage))
+                .andExpect(status().isOk());
+        mockMvc.perform(authorized(get("/api/dashboard").param("granularity", "month")).header(HttpHeaders.IF_NONE_MATCH, dashboard))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+}
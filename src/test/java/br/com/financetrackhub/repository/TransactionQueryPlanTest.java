@@ -0,0 +1,181 @@
+package br.com.financetrackhub.repository;
+
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.financetrackhub.repository.TransactionQueryPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class TransactionQueryPlanTest {
+    
+    @Autowired
+    private TransactionRepository transactionRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByEmail("plan@test.com").orElseGet(() -> {
+            User created = new User();
+            created.setName("Plan User");
+            created.setEmail("plan@test.com");
+            created.setPassword("secret");
+            return userRepository.save(created);
+        });
+        seed();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+    
+    // Com a tabela vazia os custos dos índices empatam; um volume mínimo de linhas deixa o plano estável
+    private void seed() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ?", Integer.class, user.getId());
+        if (existing > 0) {
+            return;
+        }
+        List<Long> categories = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            jdbcTemplate.update("INSERT INTO categories (name, user_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                    "Plan " + i, user.getId());
+            categories.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM categories", Long.class));
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            rows.add(new Object[]{
+                    i % 2 == 0 ? "EXPENSE" : "INCOME", LocalDate.of(2023, 1, 1).plusDays(i % 730), categories.get(i % 8), user.getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions (type, value, date, category_id, user_id, created_at) "
+                + "VALUES (?, 10, ?, ?, ?, CURRENT_TIMESTAMP)", rows);
+        jdbcTemplate.execute("ANALYZE TABLE transactions");
+    }
+    
+    @Test
+    void typeAndDateFilterUsesUserCompositeIndex() {
+        String plan = explain(TransactionSpecifications.withFilters(
+                user.getId(), Transaction.TransactionType.EXPENSE, null, LocalDate.of(2024, 1, 1), null)
+                        .and(TransactionSpecifications.newestFirst(Transaction.TransactionType.EXPENSE, null)),
+                user.getId(), "EXPENSE", LocalDate.of(2024, 1, 1));
+        assertThat(plan)
+                .containsIgnoringCase("idx_transactions_user_")
+                .doesNotContainIgnoringCase("tableScan");
+        assertReadsIndexInOrder(plan);
+    }
+    
+    @Test
+    void categoryFilterUsesUserCategoryDateIndex() {
+        String plan = explain(TransactionSpecifications.withFilters(
+                user.getId(), null, 1L, null, null)
+                        .and(TransactionSpecifications.newestFirst(null, 1L)),
+                user.getId(), 1L);
+        assertThat(plan).containsIgnoringCase("idx_transactions_user_category_date");
+        assertReadsIndexInOrder(plan);
+    }
+    
+    @Test
+    void dateRangeFilterUsesUserDateIndex() {
+        String plan = explain(TransactionSpecifications.withFilters(
+                user.getId(), null, null, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+                        .and(TransactionSpecifications.newestFirst(null, null)),
+                user.getId(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+        assertThat(plan).containsIgnoringCase("idx_transactions_user_date");
+        assertReadsIndexInOrder(plan);
+    }
+    
+    @Test
+    void typeFilterReadsUserTypeDateIndexInOrder() {
+        String plan = explain(TransactionSpecifications.withFilters(
+                user.getId(), Transaction.TransactionType.INCOME, null, null, null)
+                        .and(TransactionSpecifications.newestFirst(Transaction.TransactionType.INCOME, null)),
+                user.getId(), "INCOME");
+        assertThat(plan).containsIgnoringCase("idx_transactions_user_type_date");
+        assertReadsIndexInOrder(plan);
+    }
+    
+    @Test
+    void cursorPageReadsIndexInOrder() {
+        String plan = explain(TransactionSpecifications.withFilters(
+                user.getId(), null, 1L, null, null)
+                        .and(TransactionSpecifications.newestFirst(null, 1L))
+                        .and(TransactionSpecifications.before(LocalDate.of(2024, 6, 1), 1000L)),
+                user.getId(), 1L, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 1), 1000L);
+        assertThat(plan).containsIgnoringCase("idx_transactions_user_category_date");
+        assertReadsIndexInOrder(plan);
+    }
+    
+    @Test
+    void filtersDoNotProduceCatchAllPredicates() {
+        transactionRepository.findAll(TransactionSpecifications.withFilters(user.getId(), null, 1L, null, null));
+        assertThat(lastSelect()).doesNotContainIgnoringCase("is null");
+    }
+    
+    private String explain(Specification<Transaction> specification, Object... filterValues) {
+        transactionRepository.findAll(specification, PageRequest.of(0, 30));
+        String sql = lastSelect();
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        
+        List<String> rows = jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            for (int i = 0; i < parameterCount; i++) {
+                ps.setObject(i + 1, i < filterValues.length ? filterValues[i] : 30);
+            }
+        }, (rs, rowNum) -> {
+            StringBuilder row = new StringBuilder();
+            for (int column = 1; column <= rs.getMetaData().getColumnCount(); column++) {
+                row.append(rs.getString(column)).append(' ');
+            }
+            return row.toString();
+        });
+                return String.join("\n", rows);
+    }
+    
+    // Sem etapa de ordenação: o H2 marca o plano como "index sorted" e o MySQL não usa filesort
+    private void assertReadsIndexInOrder(String plan) {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(database)) {
+            assertThat(plan).contains("/* index sorted */");
+        } else {
+            assertThat(plan).doesNotContainIgnoringCase("filesort");
+        }
+    }
+    
+    private String lastSelect() {
+        return CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains("from transactions"))
+                .filter(sql -> !sql.toLowerCase().contains("count("))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+    
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.entity.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "audit.flush-interval=1h",
+        "audit.batch-size=2",
+        "audit.spool-directory=target/audit-spool-writer-test"
+})
+@ActiveProfiles("test")
+class AuditLogWriterTest {
+
+    private static final long USER_ID = 7_001L;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private AuditSpool auditSpool;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eventsSpooledWhileTheDatabaseFailsAreReplayedOnce() {
+        jdbcTemplate.execute("ALTER TABLE audit_logs RENAME TO audit_logs_offline");
+        try {
+            for (long entityId = 1; entityId <= 5; entityId++) {
+                auditLogWriter.onAuditEvent(AuditEvent.of(USER_ID, AuditLog.EntityType.TRANSACTION, entityId,
+                        AuditLog.Action.CREATE, null, Map.of("value", entityId)));
+            }
+            auditLogWriter.flush();
+            assertThat(auditSpool.isEmpty()).isFalse();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE audit_logs_offline RENAME TO audit_logs");
+        }
+        assertThat(entityIds()).isEmpty();
+
+        auditLogWriter.flush();
+
+        assertThat(entityIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(auditSpool.isEmpty()).isTrue();
+    }
+
+    private List<Long> entityIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT entity_id FROM audit_logs WHERE user_id = ? ORDER BY entity_id", Long.class, USER_ID);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.AuditProperties;
+import br.com.financetrackhub.entity.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditSpoolTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void replayResumesAfterTheLastCommittedBatchWhenTheProcessDies() throws Exception {
+        spool().append(rows(1, 5));
+        List<Long> committed = new ArrayList<>();
+
+        assertThatThrownBy(() -> spool().replay(2, dyingOnBatch(2, committed)))
+                .isInstanceOf(ProcessDied.class);
+        assertThat(committed).containsExactly(1L, 2L);
+
+        // Uma nova instância simula a aplicação reiniciada depois da queda
+        AuditSpool restarted = spool();
+        assertThat(restarted.replay(2, batch -> batch.forEach(row -> committed.add(row.getEntityId())))).isEqualTo(3);
+
+        assertThat(committed).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(restarted.isEmpty()).isTrue();
+    }
+
+    @Test
+    void eventsSpooledDuringReplayWaitForTheNextCycle() throws Exception {
+        AuditSpool spool = spool();
+        spool.append(rows(1, 2));
+        List<Long> committed = new ArrayList<>();
+
+        spool.replay(10, batch -> {
+            batch.forEach(row -> committed.add(row.getEntityId()));
+            appendQuietly(spool, rows(3, 3));
+        });
+        assertThat(committed).containsExactly(1L, 2L);
+        assertThat(spool.isEmpty()).isFalse();
+
+        spool.replay(10, batch -> batch.forEach(row -> committed.add(row.getEntityId())));
+        assertThat(committed).containsExactly(1L, 2L, 3L);
+        assertThat(spool.isEmpty()).isTrue();
+    }
+
+    private AuditSpool spool() {
+        AuditProperties properties = new AuditProperties();
+        properties.setSpoolDirectory(directory);
+        return new AuditSpool(properties, objectMapper);
+    }
+
+    // Um Error não passa por nenhum tratamento do spool, como uma queda do processo no meio do reenvio
+    private static Consumer<List<AuditLog>> dyingOnBatch(int dying, List<Long> committed) {
+        int[] calls = {0};
+        return batch -> {
+            if (++calls[0] == dying) {
+                throw new ProcessDied();
+            }
+            batch.forEach(row -> committed.add(row.getEntityId()));
+        };
+    }
+
+    private static void appendQuietly(AuditSpool spool, List<AuditLog> rows) {
+        try {
+            spool.append(rows);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ProcessDied extends Error {
+    }
+
+    private static List<AuditLog> rows(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(id -> new AuditLog(null, 1L, AuditLog.EntityType.TRANSACTION, id,
+                        AuditLog.Action.CREATE, null, "{\"value\":10}", LocalDateTime.of(2024, 3, 10, 12, 0)))
+                .toList();
+    }
+}
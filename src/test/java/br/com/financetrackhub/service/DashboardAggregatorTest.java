@@ -0,0 +1,94 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.DashboardResponse;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardAggregatorTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+
+    private final DashboardAggregator dashboardAggregator = new DashboardAggregator();
+
+    @Test
+    void forkJoinMatchesSinglePassIncludingCategoryOrder() {
+        List<Transaction> transactions = transactions(25_000);
+
+        DashboardResponse singlePass = dashboardAggregator.singlePass(start(), transactions).toResponse();
+        DashboardResponse forkJoin = dashboardAggregator.forkJoin(start(), transactions).toResponse();
+
+        assertThat(forkJoin).isEqualTo(singlePass);
+        assertThat(forkJoin.getCategoryData())
+                .extracting(DashboardResponse.CategoryData::getName)
+                .containsExactly("Categoria 1", "Categoria 2", "Categoria 3");
+    }
+
+    @Test
+    void aggregateMatchesDecimalRecomputation() {
+        List<Transaction> transactions = transactions(12_000);
+
+        DashboardResponse response = dashboardAggregator.aggregate(start(), transactions).toResponse();
+
+        BigDecimal income = BigDecimal.ZERO;
+        BigDecimal expenses = BigDecimal.ZERO;
+        BigDecimal opening = BigDecimal.ZERO;
+        BigDecimal lastDay = BigDecimal.ZERO;
+        for (Transaction transaction : transactions) {
+            BigDecimal signed = transaction.getType() == Transaction.TransactionType.INCOME
+                    ? transaction.getValue()
+                    : transaction.getValue().negate();
+            if (transaction.getType() == Transaction.TransactionType.INCOME) {
+                income = income.add(transaction.getValue());
+            } else {
+                expenses = expenses.add(transaction.getValue());
+            }
+            if (transaction.getDate().isBefore(START)) {
+                opening = opening.add(signed);
+            }
+            if (!transaction.getDate().isAfter(END)) {
+                lastDay = lastDay.add(signed);
+            }
+        }
+
+        assertThat(response.getSummary().getIncome()).isEqualByComparingTo(income);
+        assertThat(response.getSummary().getExpenses()).isEqualByComparingTo(expenses);
+        assertThat(response.getSummary().getBalance()).isEqualByComparingTo(income.subtract(expenses));
+        assertThat(response.getMonthlyData()).hasSize(31);
+        assertThat(response.getMonthlyData().get(30).getValue()).isEqualByComparingTo(lastDay);
+        assertThat(opening.signum()).isNotZero();
+    }
+
+    private DashboardAggregation start() {
+        return dashboardAggregator.start(START, END, DashboardQuery.Granularity.DAY);
+    }
+
+    private List<Transaction> transactions(int size) {
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Category category = new Category();
+            category.setId(id);
+            category.setName("Categoria " + id);
+            categories.add(category);
+        }
+
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setType(i % 3 == 0 ? Transaction.TransactionType.INCOME : Transaction.TransactionType.EXPENSE);
+            transaction.setValue(new BigDecimal(i % 997).add(new BigDecimal("0.35")));
+            transaction.setDate(START.minusDays(10).plusDays(i % 41));
+            transaction.setCategory(categories.get((i / 2) % categories.size()));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.CacheProperties;
+import br.com.financetrackhub.dto.DashboardResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardSnapshotServiceTest {
+
+    private static final Long USER_ID = 42L;
+
+    private final TransactionService transactionService = mock(TransactionService.class);
+    private final DashboardSnapshotStore dashboardSnapshotStore =
+            new LocalDashboardSnapshotStore(new CacheProperties(), new SimpleMeterRegistry());
+    private final DashboardSnapshotService dashboardSnapshotService =
+            new DashboardSnapshotService(transactionService, dashboardSnapshotStore);
+
+    @Test
+    void concurrentRequestsShareASingleComputation() throws Exception {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DashboardResponse computed = dashboard("10.00");
+        when(transactionService.getDashboardData(USER_ID, DashboardQuery.DEFAULT)).thenAnswer(invocation -> {
+            computing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return computed;
+        });
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<DashboardResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> dashboardSnapshotService.getDashboard(USER_ID, 3L, DashboardQuery.DEFAULT)));
+            }
+            assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<DashboardResponse> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS)).isSameAs(computed);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(transactionService, times(1)).getDashboardData(USER_ID, DashboardQuery.DEFAULT);
+    }
+
+    @Test
+    void snapshotFromTheDayBeforeIsRecomputed() {
+        dashboardSnapshotStore.put(USER_ID, new DashboardSnapshotStore.Snapshot(
+                LocalDate.now().minusDays(1), 3L, DashboardQuery.DEFAULT, dashboard("1.00")));
+        DashboardResponse today = dashboard("2.00");
+        when(transactionService.getDashboardData(USER_ID, DashboardQuery.DEFAULT)).thenReturn(today);
+
+        assertThat(dashboardSnapshotService.getDashboard(USER_ID, 3L, DashboardQuery.DEFAULT)).isSameAs(today);
+        assertThat(dashboardSnapshotService.getDashboard(USER_ID, 3L, DashboardQuery.DEFAULT)).isSameAs(today);
+        verify(transactionService, times(1)).getDashboardData(USER_ID, DashboardQuery.DEFAULT);
+    }
+
+    @Test
+    void newVersionOrOtherQueryIsRecomputed() {
+        DashboardQuery monthly = DashboardQuery.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "month");
+        when(transactionService.getDashboardData(USER_ID, DashboardQuery.DEFAULT)).thenReturn(dashboard("1.00"), dashboard("2.00"));
+        when(transactionService.getDashboardData(USER_ID, monthly)).thenReturn(dashboard("3.00"));
+
+        DashboardResponse first = dashboardSnapshotService.getDashboard(USER_ID, 1L, DashboardQuery.DEFAULT);
+        assertThat(dashboardSnapshotService.getDashboard(USER_ID, 1L, monthly).getSummary().getIncome()).isEqualByComparingTo("3.00");
+        assertThat(dashboardSnapshotService.getDashboard(USER_ID, 1L, DashboardQuery.DEFAULT)).isSameAs(first);
+
+        dashboardSnapshotService.onUserDataChanged(new UserDataChangedEvent(USER_ID));
+        assertThat(dashboardSnapshotService.getDashboard(USER_ID, 2L, DashboardQuery.DEFAULT).getSummary().getIncome())
+                .isEqualByComparingTo("2.00");
+    }
+
+    private static DashboardResponse dashboard(String income) {
+        BigDecimal value = new BigDecimal(income);
+        return new DashboardResponse(new DashboardResponse.Summary(value, BigDecimal.ZERO, value), List.of(), List.of());
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.dto.DashboardDeltaResponse;
+import br.com.financetrackhub.dto.DashboardResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "dashboard.stream.sync-interval=1h")
+@ActiveProfiles("test")
+class DashboardStreamServiceTest {
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Test
+    void pushesWritesCommittedByAnotherInstance() {
+        Long userId = 9_001L;
+        SseEmitter emitter = dashboardStreamService.subscribe(userId, DashboardQuery.DEFAULT);
+        try {
+            verify(dashboardSnapshotService).getDashboard(userId, 0L, DashboardQuery.DEFAULT);
+
+            // Outra instância gravou: a versão muda no banco sem UserDataChangedEvent nesta
+            jdbcTemplate.update("INSERT INTO user_data_versions (user_id, version) VALUES (?, 1)", userId);
+            dashboardStreamService.syncVersions();
+
+            verify(dashboardSnapshotService, timeout(5000)).getDashboard(eq(userId), eq(1L), eq(DashboardQuery.DEFAULT));
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    @Test
+    void deltaCarriesOnlyChangedItems() {
+        DashboardResponse previous = dashboard("100.00",
+                List.of(new DashboardResponse.CategoryData("Mercado", new BigDecimal("30.00")),
+                        new DashboardResponse.CategoryData("Lazer", new BigDecimal("10.00"))),
+                List.of(new DashboardResponse.MonthlyData("01/03", new BigDecimal("60.00")),
+                        new DashboardResponse.MonthlyData("02/03", new BigDecimal("60.00"))));
+        DashboardResponse current = dashboard("100.00",
+                List.of(new DashboardResponse.CategoryData("Mercado", new BigDecimal("45.00"))),
+                List.of(new DashboardResponse.MonthlyData("01/03", new BigDecimal("60.00")),
+                        new DashboardResponse.MonthlyData("02/03", new BigDecimal("45.00"))));
+
+        DashboardDeltaResponse delta = DashboardStreamService.delta(previous, current);
+
+        assertThat(delta.getSummary()).isNull();
+        assertThat(delta.getCategoryData()).extracting(DashboardResponse.CategoryData::getName).containsExactly("Mercado");
+        assertThat(delta.getRemovedCategories()).containsExactly("Lazer");
+        assertThat(delta.getMonthlyData()).extracting(DashboardResponse.MonthlyData::getDate).containsExactly("02/03");
+    }
+
+    private DashboardResponse dashboard(String income, List<DashboardResponse.CategoryData> categories,
+                                        List<DashboardResponse.MonthlyData> days) {
+        BigDecimal value = new BigDecimal(income);
+        return new DashboardResponse(new DashboardResponse.Summary(value, BigDecimal.ZERO, value), categories, days);
+    }
+}
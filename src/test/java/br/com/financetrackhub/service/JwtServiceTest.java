@@ -0,0 +1,78 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.config.JwtProperties;
+import br.com.financetrackhub.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "transactions.recurring.enabled=false")
+@ActiveProfiles("test")
+class JwtServiceTest {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void verifiedTokenIsServedFromTheCacheOnTheNextRequest() {
+        User user = testFixtures.user("Jwt User");
+        String token = jwtService.generateToken(user);
+        long verified = verifications("verified");
+        long cached = verifications("cached");
+
+        Claims first = jwtService.verify(token).orElseThrow();
+        Claims second = jwtService.verify(token).orElseThrow();
+
+        assertThat(first.getSubject()).isEqualTo(user.getEmail());
+        assertThat(jwtService.extractUserId(first)).isEqualTo(user.getId());
+        assertThat(second).isSameAs(first);
+        assertThat(verifications("verified")).isEqualTo(verified + 1);
+        assertThat(verifications("cached")).isEqualTo(cached + 1);
+    }
+
+    @Test
+    void tamperedForeignAndExpiredTokensAreRejected() {
+        String token = jwtService.generateToken("jwt-reject@test.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String foreign = Jwts.builder()
+                .subject("jwt-reject@test.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-with-at-least-32-bytes".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        String expired = Jwts.builder()
+                .subject("jwt-reject@test.com")
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(jwtService.verify(tampered)).isEmpty();
+        assertThat(jwtService.verify(foreign)).isEmpty();
+        assertThat(jwtService.verify(expired)).isEmpty();
+        assertThat(jwtService.verify("not-a-token")).isEmpty();
+        assertThat(jwtService.verify(token)).isPresent();
+    }
+
+    private long verifications(String outcome) {
+        return meterRegistry.get("auth.jwt.verify").tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.config.AuthProperties;
+import br.com.financetrackhub.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(new AuthProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void concurrentAttemptsNeverExceedTheEmailLimit() throws Exception {
+        int attempts = 40;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                String ip = "10.0.0." + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        limiter.reserve("Victim@Test.com", ip);
+                        return true;
+                    } catch (TooManyRequestsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    allowed++;
+                }
+            }
+            assertThat(allowed).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasedAttemptsDoNotCountAsFailures() {
+        for (int i = 0; i < 10; i++) {
+            limiter.reserve("release@test.com", "10.0.1.1");
+            limiter.release("release@test.com", "10.0.1.1");
+        }
+
+        assertThatCode(() -> limiter.reserve("release@test.com", "10.0.1.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void successResetsTheEmailAndReturnsTheIpAttempt() {
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve("success@test.com", "10.0.2.1");
+        }
+        limiter.recordSuccess("success@test.com", "10.0.2.1");
+
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve("success@test.com", "10.0.2.1");
+        }
+        assertThatThrownBy(() -> limiter.reserve(" SUCCESS@test.com ", "10.0.2.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void ipLimitAppliesAcrossEmails() {
+        for (int i = 0; i < 50; i++) {
+            limiter.reserve("user" + i + "@test.com", "10.0.3.1");
+        }
+
+        assertThatThrownBy(() -> limiter.reserve("other@test.com", "10.0.3.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.reserve("other@test.com", "10.0.3.2")).doesNotThrowAnyException();
+    }
+}
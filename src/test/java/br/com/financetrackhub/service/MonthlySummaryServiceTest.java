@@ -0,0 +1,146 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.dto.TransactionRequest;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "transactions.recurring.enabled=false")
+@ActiveProfiles("test")
+class MonthlySummaryServiceTest {
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Category food;
+    private Category salary;
+
+    @BeforeEach
+    void setUp() {
+        user = testFixtures.user("Summary User");
+        food = testFixtures.category(user, "Alimentação");
+        salary = testFixtures.category(user, "Salário");
+    }
+
+    @Test
+    void createKeepsSummariesInSyncWithTransactions() {
+        create("EXPENSE", "10.10", LocalDate.of(2024, 1, 5), food);
+        create("EXPENSE", "0.20", LocalDate.of(2024, 1, 31), food);
+        create("INCOME", "3000.00", LocalDate.of(2024, 1, 1), salary);
+        create("EXPENSE", "7.70", LocalDate.of(2024, 2, 1), food);
+
+        assertSummariesMatchTransactions();
+        assertThat(summaries()).containsEntry(key(food, "EXPENSE", "2024-01-01"), "10.30/2");
+    }
+
+    @Test
+    void updateMovesTheValueAcrossMonthsCategoriesAndTypes() {
+        Long id = create("EXPENSE", "50.00", LocalDate.of(2024, 1, 15), food);
+        create("EXPENSE", "5.00", LocalDate.of(2024, 1, 20), food);
+
+        update(id, "EXPENSE", "60.00", LocalDate.of(2024, 3, 2), food);
+        assertSummariesMatchTransactions();
+
+        update(id, "EXPENSE", "60.00", LocalDate.of(2024, 3, 2), salary);
+        assertSummariesMatchTransactions();
+
+        update(id, "INCOME", "61.25", LocalDate.of(2024, 3, 2), salary);
+        assertSummariesMatchTransactions();
+        assertThat(summaries())
+                .containsEntry(key(food, "EXPENSE", "2024-01-01"), "5.00/1")
+                .containsEntry(key(salary, "INCOME", "2024-03-01"), "61.25/1");
+    }
+
+    @Test
+    void deleteRemovesTheValueFromItsMonth() {
+        Long id = create("EXPENSE", "12.34", LocalDate.of(2024, 4, 10), food);
+        create("EXPENSE", "1.00", LocalDate.of(2024, 4, 11), food);
+
+        transactionService.delete(id, user.getId());
+
+        assertSummariesMatchTransactions();
+        assertThat(summaries()).containsEntry(key(food, "EXPENSE", "2024-04-01"), "1.00/1");
+    }
+
+    @Test
+    void rebuildIfMissingRecomputesSummariesFromTransactions() {
+        create("EXPENSE", "9.99", LocalDate.of(2023, 12, 31), food);
+        create("EXPENSE", "0.01", LocalDate.of(2024, 1, 1), food);
+        create("INCOME", "100.00", LocalDate.of(2024, 1, 1), salary);
+
+        jdbcTemplate.update("DELETE FROM monthly_summaries");
+        monthlySummaryService.rebuildIfMissing();
+
+        assertSummariesMatchTransactions();
+        assertThat(summaries()).hasSize(3);
+    }
+
+    private void assertSummariesMatchTransactions() {
+        Map<String, String> recomputed = new TreeMap<>();
+        jdbcTemplate.query("SELECT category_id, type, date, value FROM transactions WHERE user_id = ?", rs -> {
+            String key = rs.getLong("category_id") + "|" + rs.getString("type") + "|"
+                    + rs.getDate("date").toLocalDate().withDayOfMonth(1);
+            recomputed.merge(key, rs.getBigDecimal("value") + "/1", MonthlySummaryServiceTest::sum);
+        }, user.getId());
+
+        assertThat(summaries()).isEqualTo(recomputed);
+    }
+
+    // Linhas zeradas sobram quando a última transação do mês sai dele; elas não alteram os totais
+    private Map<String, String> summaries() {
+        Map<String, String> summaries = new TreeMap<>();
+        jdbcTemplate.query("SELECT category_id, type, reference_month, total, transaction_count FROM monthly_summaries "
+                + "WHERE user_id = ? AND transaction_count <> 0", rs -> {
+            summaries.put(rs.getLong("category_id") + "|" + rs.getString("type") + "|" + rs.getDate("reference_month"),
+                    rs.getBigDecimal("total").setScale(2, RoundingMode.UNNECESSARY) + "/" + rs.getLong("transaction_count"));
+        }, user.getId());
+        return summaries;
+    }
+
+    private static String sum(String left, String right) {
+        String[] a = left.split("/");
+        String[] b = right.split("/");
+        return new BigDecimal(a[0]).add(new BigDecimal(b[0])).setScale(2, RoundingMode.UNNECESSARY) + "/"
+                + (Long.parseLong(a[1]) + Long.parseLong(b[1]));
+    }
+
+    private static String key(Category category, String type, String referenceMonth) {
+        return category.getId() + "|" + type + "|" + referenceMonth;
+    }
+
+    private Long create(String type, String value, LocalDate date, Category category) {
+        return transactionService.create(request(type, value, date, category), user.getId()).getId();
+    }
+
+    private void update(Long id, String type, String value, LocalDate date, Category category) {
+        transactionService.update(id, request(type, value, date, category), user.getId());
+    }
+
+    private static TransactionRequest request(String type, String value, LocalDate date, Category category) {
+        return new TransactionRequest(type, new BigDecimal(value), "Resumo", date, category.getId());
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.dto.RecurringTransactionRequest;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.RecurringTransaction;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.repository.RecurringTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "transactions.recurring.enabled=false")
+@ActiveProfiles("test")
+class RecurringTransactionServiceTest {
+
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    @Autowired
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = testFixtures.user("Recurring User");
+        category = testFixtures.category(user, "Assinaturas");
+    }
+
+    @Test
+    void claimedDefinitionIsMaterializedAndAdvancedOnlyOnce() {
+        Long id = createDaily(today.minusDays(2));
+
+        assertThat(run()).isGreaterThanOrEqualTo(3);
+
+        RecurringTransaction recurring = recurringTransactionRepository.findById(id).orElseThrow();
+        assertThat(countTransactions(id)).isEqualTo(3);
+        assertThat(recurring.getOccurrences()).isEqualTo(3L);
+        assertThat(recurring.getNextRunDate()).isEqualTo(today.plusDays(1));
+        assertThat(recurring.getClaimToken()).isNull();
+        assertThat(recurring.getClaimedUntil()).isNull();
+
+        run();
+
+        assertThat(countTransactions(id)).isEqualTo(3);
+        assertThat(recurringTransactionRepository.findById(id).orElseThrow().getOccurrences()).isEqualTo(3L);
+    }
+
+    @Test
+    void failingDefinitionDoesNotBlockTheRestOfTheChunk() {
+        Long healthy = createDaily(today.minusDays(2));
+        Long failing = createDaily(today);
+        jdbcTemplate.update("UPDATE recurring_transactions SET occurrences = ? WHERE id = ?", Long.MAX_VALUE - 1, failing);
+
+        run();
+
+        assertThat(countTransactions(healthy)).isEqualTo(3);
+        assertThat(recurringTransactionRepository.findById(healthy).orElseThrow().getNextRunDate())
+                .isEqualTo(today.plusDays(1));
+
+        RecurringTransaction parked = recurringTransactionRepository.findById(failing).orElseThrow();
+        assertThat(countTransactions(failing)).isZero();
+        assertThat(parked.getNextRunDate()).isEqualTo(today);
+        assertThat(parked.getClaimToken()).isNull();
+        assertThat(parked.getClaimedUntil()).isAfter(LocalDateTime.now());
+
+        run();
+
+        assertThat(recurringTransactionRepository.findById(failing).orElseThrow().getClaimToken()).isNull();
+        assertThat(countTransactions(failing)).isZero();
+    }
+
+    private Long createDaily(LocalDate startDate) {
+        RecurringTransactionRequest request = new RecurringTransactionRequest(
+                "EXPENSE", new BigDecimal("19.90"), "Streaming", category.getId(), "DAILY", startDate, null);
+        return recurringTransactionService.create(request, user.getId()).getId();
+    }
+
+    private int run() {
+        String token = UUID.randomUUID().toString();
+        int created = 0;
+        while (recurringTransactionService.claimDue(token, today) > 0) {
+            created += recurringTransactionService.materializeClaimed(token, today);
+        }
+        return created;
+    }
+
+    private int countTransactions(Long recurringId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE recurring_id = ?", Integer.class, recurringId);
+    }
+}
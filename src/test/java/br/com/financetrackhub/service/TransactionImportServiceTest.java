@@ -0,0 +1,124 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.dto.TransactionRequest;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "transactions.recurring.enabled=false")
+@ActiveProfiles("test")
+class TransactionImportServiceTest {
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = testFixtures.user("Import User");
+        category = testFixtures.category(user, "Mercado");
+    }
+
+    @Test
+    void invalidRowsAreReportedByLineAndNothingIsImported() {
+        Category foreign = testFixtures.category(testFixtures.user("Other User"), "Mercado");
+        List<TransactionRequest> requests = List.of(
+                request("EXPENSE", "10.00", category.getId()),
+                request("EXPENSE", "10.005", category.getId()),
+                request("TRANSFER", "10.00", category.getId()),
+                request("EXPENSE", "10.00", foreign.getId()),
+                new TransactionRequest("INCOME", new BigDecimal("1.00"), null, null, category.getId())
+        );
+
+        assertThatThrownBy(() -> transactionImportService.importTransactions(requests, user.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageNotContaining("Linha 1:")
+                .hasMessageContaining("Linha 2: O valor deve ter no máximo 8 dígitos inteiros e 2 casas decimais")
+                .hasMessageContaining("Linha 3: Tipo de transação inválido")
+                .hasMessageContaining("Linha 4: Categoria não encontrada ou não pertence ao usuário")
+                .hasMessageContaining("Linha 5: A data é obrigatória");
+        assertThat(transactionCount()).isZero();
+    }
+
+    @Test
+    void validRowsAreImportedWithTheirMonthlySummary() {
+        List<TransactionRequest> requests = List.of(
+                request("EXPENSE", "10.10", category.getId()),
+                request("expense", "0.20", category.getId()),
+                request("INCOME", "100.00", category.getId())
+        );
+
+        assertThat(transactionImportService.importTransactions(requests, user.getId()).getImported()).isEqualTo(3);
+
+        assertThat(transactionCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT total FROM monthly_summaries WHERE user_id = ? AND type = 'EXPENSE'", BigDecimal.class, user.getId()))
+                .isEqualByComparingTo("10.30");
+    }
+
+    @Test
+    void csvAcceptsHeaderAndQuotedDescriptions() {
+        String csv = "type,value,description,date,categoryId\n"
+                + "EXPENSE,12.50,\"Feira, frutas e \"\"verduras\"\"\",2024-03-10," + category.getId() + "\n"
+                + "\n"
+                + "INCOME,100,,2024-03-11," + category.getId() + "\n";
+
+        assertThat(transactionImportService.importCsv(csv, user.getId()).getImported()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM transactions WHERE user_id = ? AND type = 'EXPENSE'", String.class, user.getId()))
+                .isEqualTo("Feira, frutas e \"verduras\"");
+    }
+
+    @Test
+    void csvRejectsMalformedLines() {
+        String csv = "EXPENSE,12.50,Feira,2024-03-10\n"
+                + "EXPENSE,doze,Feira,2024-03-10," + category.getId() + "\n";
+
+        assertThatThrownBy(() -> transactionImportService.importCsv(csv, user.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Linha 1: esperadas 5 colunas")
+                .hasMessageContaining("Linha 2: valor, data ou categoria em formato inválido");
+        assertThat(transactionCount()).isZero();
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedImports() {
+        assertThatThrownBy(() -> transactionImportService.importTransactions(List.of(), user.getId()))
+                .isInstanceOf(BadRequestException.class);
+        List<TransactionRequest> oversized = Collections.nCopies(10_001, request("EXPENSE", "1.00", category.getId()));
+        assertThatThrownBy(() -> transactionImportService.importTransactions(oversized, user.getId()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("no máximo 10000 transações");
+    }
+
+    private int transactionCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions WHERE user_id = ?", Integer.class, user.getId());
+    }
+
+    private static TransactionRequest request(String type, String value, Long categoryId) {
+        return new TransactionRequest(type, new BigDecimal(value), "Importada", LocalDate.of(2024, 3, 10), categoryId);
+    }
+}
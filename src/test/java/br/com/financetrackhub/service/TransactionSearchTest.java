@@ -0,0 +1,89 @@
+package br.com.financetrackhub.service;
+
+import br.com.financetrackhub.TestFixtures;
+import br.com.financetrackhub.entity.Category;
+import br.com.financetrackhub.entity.Transaction;
+import br.com.financetrackhub.entity.User;
+import br.com.financetrackhub.exception.BadRequestException;
+import br.com.financetrackhub.repository.TransactionRepository;
+import br.com.financetrackhub.repository.TransactionSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionSearchTest {
+
+    @Autowired
+    private TransactionSearch transactionSearch;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = testFixtures.user("Search User");
+        category = testFixtures.category(user, "Transporte");
+    }
+
+    @Test
+    void fallsBackToLikeMatchingAllTermsIgnoringCase() {
+        Transaction older = save("Uber para o Mercado");
+        save("Uber para casa");
+        save("Mercado do bairro");
+        Transaction newer = save("mercado via UBER");
+
+        assertThat(search("uber, MERCADO"))
+                .extracting(Transaction::getId)
+                .containsExactly(newer.getId(), older.getId());
+    }
+
+    @Test
+    void matchesPartialWords() {
+        Transaction transaction = save("Supermercado Central");
+
+        assertThat(search("merc"))
+                .extracting(Transaction::getId)
+                .containsExactly(transaction.getId());
+    }
+
+    @Test
+    void rejectsSearchWithoutWords() {
+        assertThatThrownBy(() -> transactionSearch.matching(" ,.- "))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> transactionSearch.matching("a".repeat(101)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<Transaction> search(String search) {
+        return transactionRepository.findAll(
+                TransactionSpecifications.belongsTo(user.getId()).and(transactionSearch.matching(search)));
+    }
+
+    private Transaction save(String description) {
+        Transaction transaction = new Transaction();
+        transaction.setType(Transaction.TransactionType.EXPENSE);
+        transaction.setValue(new BigDecimal("25.00"));
+        transaction.setDescription(description);
+        transaction.setDate(LocalDate.of(2024, 3, 10));
+        transaction.setCategory(category);
+        transaction.setUser(user);
+        return transactionRepository.save(transaction);
+    }
+}